@@ -0,0 +1,80 @@
+-- glucose_history 를 한국 시간 기준 월 단위 RANGE 파티션 테이블로 전환 (MySQL 8)
+-- 배포 시 한 번만 실행하고, 이후 glucose.history.partitioning.enabled=true 로 ScheduledMaintainGlucoseHistoryPartitionUseCase 가
+-- 다음 달 파티션 추가와 보관 기간이 지난 파티션 정리를 맡음
+--
+-- 파티션 테이블은 외래 키를 가지거나 참조될 수 없으므로 아래 외래 키를 제거함
+--   * glucose_history.patient_id -> member.id : 회원 삭제 시 DeleteMemberUseCase 가 혈당을 직접 삭제
+--   * 그 밖에 glucose_history 를 참조하는 외래 키 : 실행 전에 아래 SELECT 로 확인
+--
+-- SELECT DISTINCT TABLE_NAME, CONSTRAINT_NAME, REFERENCED_TABLE_NAME FROM information_schema.KEY_COLUMN_USAGE
+-- WHERE TABLE_SCHEMA = DATABASE()
+-- AND REFERENCED_TABLE_NAME IS NOT NULL
+-- AND (TABLE_NAME = 'glucose_history' OR REFERENCED_TABLE_NAME = 'glucose_history');
+
+SET time_zone = '+09:00';
+
+DROP PROCEDURE IF EXISTS partition_glucose_history;
+
+DELIMITER //
+
+CREATE PROCEDURE partition_glucose_history(IN months_ahead INT)
+BEGIN
+    DECLARE done BOOLEAN DEFAULT FALSE;
+    DECLARE fk_table VARCHAR(64);
+    DECLARE fk_name VARCHAR(64);
+    DECLARE month_start DATE;
+    DECLARE last_month DATE;
+    DECLARE definitions TEXT DEFAULT '';
+    DECLARE foreign_keys CURSOR FOR SELECT table_name, constraint_name FROM glucose_history_foreign_keys;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    IF EXISTS (SELECT 1 FROM information_schema.PARTITIONS
+               WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = 'glucose_history'
+               AND PARTITION_NAME IS NOT NULL) THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'glucose_history is already partitioned';
+    END IF;
+
+    -- information_schema 를 읽는 도중에 외래 키를 지우지 않도록 먼저 목록을 복사
+    CREATE TEMPORARY TABLE glucose_history_foreign_keys AS
+    SELECT DISTINCT TABLE_NAME AS table_name, CONSTRAINT_NAME AS constraint_name FROM information_schema.KEY_COLUMN_USAGE
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND REFERENCED_TABLE_NAME IS NOT NULL
+    AND (TABLE_NAME = 'glucose_history' OR REFERENCED_TABLE_NAME = 'glucose_history');
+
+    OPEN foreign_keys;
+    drop_foreign_keys: LOOP
+        FETCH foreign_keys INTO fk_table, fk_name;
+        IF done THEN
+            LEAVE drop_foreign_keys;
+        END IF;
+        SET @statement = CONCAT('ALTER TABLE ', fk_table, ' DROP FOREIGN KEY ', fk_name);
+        PREPARE statement FROM @statement;
+        EXECUTE statement;
+        DEALLOCATE PREPARE statement;
+    END LOOP;
+    CLOSE foreign_keys;
+    DROP TEMPORARY TABLE glucose_history_foreign_keys;
+
+    -- 가장 오래된 혈당이 속한 달(미래라면 이번 달)부터 months_ahead 달 뒤까지 파티션을 만들고, 마지막에는 비어 있는 p_future 를 둠
+    SET month_start = DATE_FORMAT(LEAST(COALESCE(FROM_UNIXTIME((SELECT MIN(date_time) FROM glucose_history) DIV 1000), NOW()), NOW()), '%Y-%m-01');
+    SET last_month = DATE_FORMAT(NOW() + INTERVAL months_ahead MONTH, '%Y-%m-01');
+    WHILE month_start <= last_month DO
+        SET definitions = CONCAT(definitions, 'PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+                                 ' VALUES LESS THAN (', UNIX_TIMESTAMP(month_start + INTERVAL 1 MONTH) * 1000, '), ');
+        SET month_start = month_start + INTERVAL 1 MONTH;
+    END WHILE;
+
+    -- 파티션 키(date_time)는 모든 유니크 키에 포함되어야 함
+    ALTER TABLE glucose_history DROP PRIMARY KEY, ADD PRIMARY KEY (id, date_time);
+    SET @statement = CONCAT('ALTER TABLE glucose_history PARTITION BY RANGE (date_time) (', definitions, 'PARTITION p_future VALUES LESS THAN MAXVALUE)');
+    PREPARE statement FROM @statement;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+END //
+
+DELIMITER ;
+
+CALL partition_glucose_history(3);
+
+DROP PROCEDURE partition_glucose_history;
@@ -0,0 +1,6 @@
+-- glucose_rollup 에 최솟값/최댓값이 측정된 시각을 추가 (MySQL 8)
+-- 배포 시 한 번만 실행하며, 기존 집계의 시각은 비어 있고 집계를 다시 계산하면 채워짐
+
+ALTER TABLE glucose_rollup
+    ADD COLUMN min_date_time BIGINT NULL AFTER max_sgv,
+    ADD COLUMN max_date_time BIGINT NULL AFTER min_date_time;
@@ -0,0 +1,37 @@
+-- glucose_warning_notification_history 가 glucose_history.id 대신 (patient_id, glucose_date_time) 으로 혈당을 가리키도록 전환 (MySQL 8)
+-- 혈당이 압축 보관(ArchiveGlucoseHistoryDayUseCase)되거나 파티션과 함께 정리되어도 알림 이력이 ON DELETE CASCADE 로 지워지지 않도록 함
+-- glucose_history_partitioning.sql 보다 먼저 실행해야 하며, 배포 시 한 번만 실행
+
+ALTER TABLE glucose_warning_notification_history
+    ADD COLUMN patient_id BIGINT NULL,
+    ADD COLUMN glucose_date_time BIGINT NULL;
+
+UPDATE glucose_warning_notification_history gwnh
+    JOIN glucose_history gh ON gh.id = gwnh.glucose_history_id
+SET gwnh.patient_id = gh.patient_id,
+    gwnh.glucose_date_time = gh.date_time;
+
+-- 원본 혈당을 찾을 수 없는 이력은 가리킬 대상이 없으므로 정리
+DELETE FROM glucose_warning_notification_history WHERE patient_id IS NULL;
+
+-- glucose_history_id 외래 키 이름은 Hibernate 가 생성한 값이므로 information_schema 에서 찾아서 제거
+SET @statement = COALESCE(
+        (SELECT CONCAT('ALTER TABLE glucose_warning_notification_history DROP FOREIGN KEY ', CONSTRAINT_NAME)
+         FROM information_schema.KEY_COLUMN_USAGE
+         WHERE TABLE_SCHEMA = DATABASE()
+         AND TABLE_NAME = 'glucose_warning_notification_history'
+         AND COLUMN_NAME = 'glucose_history_id'
+         AND REFERENCED_TABLE_NAME IS NOT NULL
+         LIMIT 1),
+        'DO 0'
+);
+PREPARE drop_foreign_key FROM @statement;
+EXECUTE drop_foreign_key;
+DEALLOCATE PREPARE drop_foreign_key;
+
+ALTER TABLE glucose_warning_notification_history
+    DROP COLUMN glucose_history_id,
+    MODIFY COLUMN patient_id BIGINT NOT NULL,
+    MODIFY COLUMN glucose_date_time BIGINT NOT NULL,
+    ADD CONSTRAINT fk_glucose_warning_notification_patient FOREIGN KEY (patient_id) REFERENCES member (id) ON DELETE CASCADE,
+    ADD INDEX idx_glucose_warning_notification_patient_datetime (patient_id, glucose_date_time);
@@ -0,0 +1,13 @@
+-- glucose_warning_notification_history 에 (member_id, patient_id, glucose_date_time) 유일 키를 추가 (MySQL 8)
+-- glucose_warning_notification_history_reference.sql 이후에 실행하며, 배포 시 한 번만 실행
+-- 유일 키가 없던 동안 동시에 기록된 중복 이력은 가장 먼저 기록된 행만 남김
+
+DELETE duplicate FROM glucose_warning_notification_history duplicate
+    JOIN glucose_warning_notification_history original
+    ON original.member_id = duplicate.member_id
+    AND original.patient_id = duplicate.patient_id
+    AND original.glucose_date_time = duplicate.glucose_date_time
+    AND original.id < duplicate.id;
+
+ALTER TABLE glucose_warning_notification_history
+    ADD CONSTRAINT uk_glucose_warning_notification_member_patient_datetime UNIQUE (member_id, patient_id, glucose_date_time);
@@ -0,0 +1,84 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 실행 : ./gradlew jmh
+// 기존 캐시 값 형식(Jackson JSON)과 GlucoseSeriesCodec 의 인코딩/디코딩 속도를 비교하고, 준비 단계에서 인코딩 크기도 함께 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlucoseSeriesCodecBenchmark {
+    private static final long FIVE_MINUTES = 300_000L;
+
+    @Param({"288", "8640"}) // 하루, 30일
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JavaType listType;
+    private List<ReadGlucoseHistoryResponse> histories;
+    private String json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        var random = new Random(42);
+        histories = new ArrayList<>(size);
+        var dateTime = 1_760_000_000_000L;
+        var id = 1_000_000L;
+        var sgv = 120;
+        for (int i = 0; i < size; i++) {
+            dateTime += FIVE_MINUTES + random.nextInt(2_000) - 1_000;
+            id += 1 + random.nextInt(3);
+            sgv = Math.max(40, Math.min(400, sgv + random.nextInt(11) - 5));
+            histories.add(ReadGlucoseHistoryResponse.of(id, dateTime, sgv));
+        }
+        listType = objectMapper.getTypeFactory()
+                               .constructCollectionType(List.class, ReadGlucoseHistoryResponse.class);
+        json = objectMapper.writeValueAsString(histories);
+        binary = GlucoseSeriesCodec.encode(histories);
+        var jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n[encoded size] readings=%d, json=%d bytes, binary=%d bytes (%.1fx smaller)%n", size, jsonBytes, binary.length, (double) jsonBytes / binary.length);
+    }
+
+    @Benchmark
+    public String encodeJson() throws Exception {
+        return objectMapper.writeValueAsString(histories);
+    }
+
+    @Benchmark
+    public List<ReadGlucoseHistoryResponse> decodeJson() throws Exception {
+        return objectMapper.readValue(json, listType);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return GlucoseSeriesCodec.encode(histories);
+    }
+
+    @Benchmark
+    public List<ReadGlucoseHistoryResponse> decodeBinary() {
+        return GlucoseSeriesCodec.decode(binary);
+    }
+}
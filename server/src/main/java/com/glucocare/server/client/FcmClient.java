@@ -1,20 +1,20 @@
 package com.glucocare.server.client;
 
-import com.glucocare.server.exception.ApplicationException;
-import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.client.dto.FcmAlertMessage;
 import com.glucocare.server.feature.care.domain.CareRelation;
 import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
 import com.glucocare.server.feature.notification.domain.FcmToken;
-import com.glucocare.server.feature.notification.domain.FcmTokenRepository;
 import com.glucocare.server.feature.notification.domain.GlucoseWarningType;
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
 import com.google.firebase.messaging.ApnsConfig;
 import com.google.firebase.messaging.Aps;
 import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -23,30 +23,33 @@ import java.util.List;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class FcmClient {
 
-    private final FcmTokenRepository fcmTokenRepository;
-
-    public void sendFcmMessage(FcmToken fcmToken, CareRelation careRelation, GlucoseHistory glucoseHistory, GlucoseWarningType glucoseWarningType) {
-        try {
-            var title = getTitle(glucoseWarningType);
-            var body = getBody(careRelation, glucoseHistory, glucoseWarningType);
-            var message = Message.builder()
-                                 .setToken(fcmToken.getFcmToken())
-                                 .setNotification(Notification.builder()
-                                                              .setTitle(title)
-                                                              .setBody(body)
-                                                              .build())
-                                 .build();
-            FirebaseMessaging.getInstance()
-                             .send(message);
-            log.info("Title : {}, Body : {} 메시지 전송 완료", title, body);
-        } catch (Exception e) {
-            log.error("FCM 메시지 전송 실패: {}", e.getMessage(), e);
-            fcmTokenRepository.delete(fcmToken);
-            throw new ApplicationException(ErrorMessage.INTERNAL_SERVER_ERROR);
-        }
+    // 최대 500건을 한 번의 요청으로 보내며, 응답의 순서는 messages 의 순서와 같음
+    // 재전송으로 같은 알림이 두 번 도착하더라도 기기에는 하나만 보이도록 idempotencyKey 를 알림 태그(Android), collapse id(iOS)로 사용
+    public BatchResponse sendAlertMessages(List<FcmAlertMessage> messages) throws FirebaseMessagingException {
+        var fcmMessages = messages.stream()
+                                  .map(message -> Message.builder()
+                                                         .setToken(message.token())
+                                                         .setNotification(Notification.builder()
+                                                                                      .setTitle(message.title())
+                                                                                      .setBody(message.body())
+                                                                                      .build())
+                                                         .setAndroidConfig(AndroidConfig.builder()
+                                                                                        .setNotification(AndroidNotification.builder()
+                                                                                                                            .setTag(message.idempotencyKey())
+                                                                                                                            .build())
+                                                                                        .build())
+                                                         .setApnsConfig(ApnsConfig.builder()
+                                                                                  .putHeader("apns-collapse-id", message.idempotencyKey())
+                                                                                  .setAps(Aps.builder()
+                                                                                             .build())
+                                                                                  .build())
+                                                         .putData("idempotencyKey", message.idempotencyKey())
+                                                         .build())
+                                  .toList();
+        return FirebaseMessaging.getInstance()
+                                .sendEach(fcmMessages);
     }
 
     public void sendSilentSyncMessages(List<FcmToken> fcmTokens) {
@@ -80,7 +83,8 @@ public class FcmClient {
         }
     }
 
-    private String getTitle(GlucoseWarningType glucoseWarningType) {
+    // 알림 내용은 판단 시점에(환자 이름 등 지연 로딩이 가능한 트랜잭션 안에서) 만들어 알림 보관함에 기록
+    public String createGlucoseWarningTitle(GlucoseWarningType glucoseWarningType) {
         return switch (glucoseWarningType) {
             case VERY_HIGH_RISK -> "GluCoCare 고혈당 매우 위험 알림";
             case HIGH_RISK -> "GluCoCare 고혈당 위험 알림";
@@ -98,7 +102,7 @@ public class FcmClient {
         };
     }
 
-    private String getBody(CareRelation careRelation, GlucoseHistory glucoseHistory, GlucoseWarningType glucoseWarningType) {
+    public String createGlucoseWarningBody(CareRelation careRelation, GlucoseHistory glucoseHistory, GlucoseWarningType glucoseWarningType) {
         var patient = careRelation.getPatient();
         return patient.getName() + "님의 혈당 수치가 " + glucoseHistory.getSgv() + "입니다. " + getSuggestion(glucoseWarningType);
     }
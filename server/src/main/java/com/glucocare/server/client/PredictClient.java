@@ -4,7 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.glucocare.server.client.dto.PredictionResult;
 import com.glucocare.server.exception.ApplicationException;
 import com.glucocare.server.exception.ErrorMessage;
-import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
 import com.glucocare.server.feature.glucose.dto.PredictGlucoseResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,10 +27,8 @@ public class PredictClient {
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
 
-    public List<PredictGlucoseResponse> predictFutureGlucose(List<GlucoseHistory> glucoseHistories) {
-        var points = glucoseHistories.stream()
-                                     .map(g -> Map.of("dateTime", g.getDateTime(), "sgv", g.getSgv()))
-                                     .toList();
+    public List<PredictGlucoseResponse> predictFutureGlucose(GlucoseWindow glucoseWindow) {
+        var points = toPoints(glucoseWindow);
 
         var body = Map.of("points", points, "sigma_scale", 1.2, "clip_min", 40, "clip_max", 400);
 
@@ -50,10 +48,10 @@ public class PredictClient {
 
         var timeKeys = List.of(5, 10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60);
         var predictGlucoseList = new ArrayList<PredictGlucoseResponse>();
-        var recentGlucoseHistory = glucoseHistories.getFirst();
+        var recentDateTime = glucoseWindow.dateTimeAt(glucoseWindow.size() - 1);
         for (var time : timeKeys) {
             var prediction = predictions.get(time.toString());
-            var timestamp = recentGlucoseHistory.getDateTime() + time * 60_000L;
+            var timestamp = recentDateTime + time * 60_000L;
 
             predictGlucoseList.add(PredictGlucoseResponse.of(PREDICT_ID, timestamp, prediction.mean(), prediction.pi90()[0], prediction.pi90()[1]));
         }
@@ -61,10 +59,8 @@ public class PredictClient {
         return predictGlucoseList;
     }
 
-    public List<PredictGlucoseResponse> predictExerciseGlucose(List<GlucoseHistory> glucoseHistories, Double met, Integer duration) {
-        var points = glucoseHistories.stream()
-                                     .map(g -> Map.of("dateTime", g.getDateTime(), "sgv", g.getSgv()))
-                                     .toList();
+    public List<PredictGlucoseResponse> predictExerciseGlucose(GlucoseWindow glucoseWindow, Double met, Integer duration) {
+        var points = toPoints(glucoseWindow);
 
         var body = Map.of("points", points, "planned_duration_min", duration, "planned_mets", met, "exercise_effect_scale", 1.0);
 
@@ -84,14 +80,22 @@ public class PredictClient {
 
         var timeKeys = List.of(5, 10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60);
         var predictGlucoseList = new ArrayList<PredictGlucoseResponse>();
-        var recentGlucoseHistory = glucoseHistories.getFirst();
+        var recentDateTime = glucoseWindow.dateTimeAt(glucoseWindow.size() - 1);
         for (var time : timeKeys) {
             var prediction = predictions.get(time.toString());
-            var timestamp = recentGlucoseHistory.getDateTime() + time * 60_000L;
+            var timestamp = recentDateTime + time * 60_000L;
             predictGlucoseList.add(PredictGlucoseResponse.of(PREDICT_ID, timestamp, prediction.mean(), prediction.pi90()[0], prediction.pi90()[1]));
         }
 
         return predictGlucoseList;
     }
-}
 
+    // 예측 서버에는 기존과 같이 최신순으로 전달
+    private List<Map<String, Object>> toPoints(GlucoseWindow glucoseWindow) {
+        var points = new ArrayList<Map<String, Object>>(glucoseWindow.size());
+        for (int i = glucoseWindow.size() - 1; i >= 0; i--) {
+            points.add(Map.of("dateTime", glucoseWindow.dateTimeAt(i), "sgv", glucoseWindow.sgvAt(i)));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,12 @@
+package com.glucocare.server.client.dto;
+
+public record FcmAlertMessage(
+        String idempotencyKey,
+        String token,
+        String title,
+        String body
+) {
+    public static FcmAlertMessage of(String idempotencyKey, String token, String title, String body) {
+        return new FcmAlertMessage(idempotencyKey, token, title, body);
+    }
+}
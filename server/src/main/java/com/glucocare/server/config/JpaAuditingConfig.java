@@ -0,0 +1,22 @@
+package com.glucocare.server.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+@Configuration
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
+public class JpaAuditingConfig {
+    // JdbcTemplate 으로 직접 쓰는 created_at / last_modified_at 과 같은 한국 시간으로 기록하여, JVM 시간대에 따라 값이 섞이지 않도록 함
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now(ZONE));
+    }
+}
@@ -0,0 +1,38 @@
+package com.glucocare.server.config;
+
+import com.glucocare.server.feature.glucose.presentation.GlucoseIngestRateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final GlucoseIngestRateLimitInterceptor glucoseIngestRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(glucoseIngestRateLimitInterceptor)
+                .addPathPatterns(GlucoseIngestRateLimitInterceptor.PATH_PATTERN);
+    }
+
+    // Nightscout 클라이언트는 find[date][$gte] 처럼 대괄호를 인코딩하지 않고 보내므로 Tomcat 이 거절하지 않도록 허용
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> relaxedQueryCharsCustomizer() {
+        return factory -> factory.addConnectorCustomizers(connector -> connector.setProperty("relaxedQueryChars", "[]"));
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // 전체 혈당 이력 내보내기처럼 오래 걸리는 스트리밍 응답이 컨테이너 기본 타임아웃(30초)에 끊기지 않도록 함
+        configurer.setDefaultTimeout(Duration.ofMinutes(10)
+                                             .toMillis());
+    }
+}
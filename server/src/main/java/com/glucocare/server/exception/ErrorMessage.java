@@ -19,7 +19,9 @@ public enum ErrorMessage {
     INVALID_BALANCE_IN_WALLET(400, "포인트 잔액이 부족합니다."),
     AMOUNT_MUST_BE_POSITIVE(400, "포인트는 항상 0과 같거나, 0보다 커야합니다."),
     BALANCE_IN_WALLET_MUST_BE_POSITIVE(400, "보유 포인트는 항상 0과 같거나, 0보다 커야합니다."),
-    GENERATE_ACCESS_CODE_ERROR(400, "고유 코드를 만드는 과정에서 에러가 발생했습니다. 잠시 후 다시 시도해 주세요.");
+    GENERATE_ACCESS_CODE_ERROR(400, "고유 코드를 만드는 과정에서 에러가 발생했습니다. 잠시 후 다시 시도해 주세요."),
+    PAYLOAD_TOO_LARGE(413, "요청 본문이 너무 큽니다."),
+    TOO_MANY_REQUESTS(429, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final int code;
     private final String message;
@@ -1,6 +1,7 @@
 package com.glucocare.server.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -18,6 +19,15 @@ public class GlobalExceptionHandler {
         return getExceptionResponse(errorMessage.getMessage(), HttpStatus.valueOf(errorMessage.getCode()));
     }
 
+    @ExceptionHandler(value = RateLimitExceededException.class)
+    public ResponseEntity<ExceptionResponse> rateLimitExceededExceptionHandling(RateLimitExceededException exception) {
+        var errorMessage = exception.getErrorMessage();
+        var response = new ExceptionResponse(errorMessage.getCode(), errorMessage.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                             .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                             .body(response);
+    }
+
     @ExceptionHandler(value = MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionResponse> methodArgumentNotValidExceptionHandling(MethodArgumentNotValidException exception) {
         BindingResult bindingResult = exception.getBindingResult();
@@ -0,0 +1,13 @@
+package com.glucocare.server.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends ApplicationException {
+    private final Long retryAfterSeconds;
+
+    public RateLimitExceededException(Long retryAfterSeconds) {
+        super(ErrorMessage.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -6,6 +6,7 @@ import com.glucocare.server.feature.auth.domain.AuthToken;
 import com.glucocare.server.feature.auth.domain.AuthTokenRepository;
 import com.glucocare.server.feature.auth.dto.AuthResponse;
 import com.glucocare.server.feature.auth.dto.RegisterRequest;
+import com.glucocare.server.feature.glucose.infra.PatientAccessCodeCache;
 import com.glucocare.server.feature.member.domain.Member;
 import com.glucocare.server.feature.member.domain.MemberRepository;
 import com.glucocare.server.feature.point.domain.PointWallet;
@@ -29,11 +30,13 @@ public class RegisterUseCase {
     private final PasswordEncoder passwordEncoder;
     private final AuthTokenRepository authTokenRepository;
     private final PointWalletRepository pointWalletRepository;
+    private final PatientAccessCodeCache patientAccessCodeCache;
 
     public AuthResponse execute(RegisterRequest request) {
         var member = saveMemberWithRequest(request);
         var accessCode = generateAccessCode(member);
         member.updateAccessCode(accessCode);
+        patientAccessCodeCache.evict(member.getId());
         generatePointWallet(member);
         return saveRefreshToken(member);
     }
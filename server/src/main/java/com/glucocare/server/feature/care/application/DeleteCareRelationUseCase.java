@@ -3,6 +3,7 @@ package com.glucocare.server.feature.care.application;
 import com.glucocare.server.exception.ApplicationException;
 import com.glucocare.server.exception.ErrorMessage;
 import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.care.infra.CareRelationCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,12 +13,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class DeleteCareRelationUseCase {
     private final CareRelationRepository careRelationRepository;
+    private final CareRelationCache careRelationCache;
 
     public void execute(Long memberId, Long id) {
         var careRelation = careRelationRepository.findById(id)
                                                  .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
         careRelation.validateOwnership(memberId);
         careRelationRepository.delete(careRelation);
+        careRelationCache.evict(id);
     }
 
 }
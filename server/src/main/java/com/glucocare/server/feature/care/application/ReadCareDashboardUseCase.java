@@ -0,0 +1,97 @@
+package com.glucocare.server.feature.care.application;
+
+import com.glucocare.server.feature.care.domain.CareRelation;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.care.dto.GlucosePointResponse;
+import com.glucocare.server.feature.care.dto.ReadCareDashboardResponse;
+import com.glucocare.server.feature.care.dto.ReadGlucoseAlertPolicyResponse;
+import com.glucocare.server.feature.glucose.domain.GlucoseDownsampler;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseTrend;
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import com.glucocare.server.feature.glucose.infra.GlucoseRingBufferStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReadCareDashboardUseCase {
+    private static final Long SPARKLINE_WINDOW_MILLIS = Duration.ofHours(3)
+                                                                .toMillis();
+    private static final int SPARKLINE_POINTS = 36; // 5분 간격 기준 3시간치
+
+    private final CareRelationRepository careRelationRepository;
+    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
+    private final GlucoseDownsampler glucoseDownsampler;
+
+    // 보호 관계(환자, 알림 정책 포함) 1회 조회 + 최근 혈당 버퍼 일괄 조회로 구성하며,
+    // 최근 24시간 혈당이 없는 환자에 대해서만 마지막 혈당을 한 번에 추가 조회
+    public List<ReadCareDashboardResponse> execute(Long memberId) {
+        var careRelations = careRelationRepository.findAllWithPatientAndPolicyByMemberId(memberId);
+        if (careRelations.isEmpty()) return List.of();
+
+        var patientIds = careRelations.stream()
+                                      .map(careRelation -> careRelation.getPatient()
+                                                                       .getId())
+                                      .distinct()
+                                      .toList();
+        var now = System.currentTimeMillis();
+        var windows = glucoseRingBufferStore.findRecentByPatientIds(patientIds, now - GlucoseRingBufferStore.WINDOW_MILLIS);
+        var staleLatest = readStaleLatest(careRelations, windows);
+
+        return careRelations.stream()
+                            .map(careRelation -> convertCareDashboardResponse(careRelation, windows.getOrDefault(careRelation.getPatient()
+                                                                                                                             .getId(), GlucoseWindow.empty()), staleLatest, now))
+                            .toList();
+    }
+
+    private Map<Long, GlucoseHistory> readStaleLatest(List<CareRelation> careRelations, Map<Long, GlucoseWindow> windows) {
+        var stalePatients = careRelations.stream()
+                                         .map(CareRelation::getPatient)
+                                         .filter(patient -> windows.getOrDefault(patient.getId(), GlucoseWindow.empty())
+                                                                   .isEmpty())
+                                         .distinct()
+                                         .toList();
+        if (stalePatients.isEmpty()) return Map.of();
+        return glucoseHistoryRepository.findLatestByPatient(stalePatients)
+                                       .stream()
+                                       .collect(Collectors.toMap(history -> history.getPatient()
+                                                                                   .getId(), Function.identity(), (first, second) -> first));
+    }
+
+    private ReadCareDashboardResponse convertCareDashboardResponse(CareRelation careRelation, GlucoseWindow window, Map<Long, GlucoseHistory> staleLatest, long now) {
+        var patient = careRelation.getPatient();
+        var policy = careRelation.getGlucoseAlertPolicy();
+        var policyResponse = policy == null ? null : ReadGlucoseAlertPolicyResponse.of(policy.getId(), careRelation.getId(), policy.getHighRiskValue(), policy.getVeryHighRiskValue(), policy.getLowRiskValue());
+
+        if (window.isEmpty()) {
+            var latest = staleLatest.get(patient.getId());
+            return ReadCareDashboardResponse.of(careRelation.getId(), patient.getId(), patient.getName(), latest == null ? null : latest.getDateTime(), latest == null ? null : latest.getSgv(), GlucoseTrend.NONE, List.of(), policyResponse);
+        }
+        var last = window.size() - 1;
+        return ReadCareDashboardResponse.of(careRelation.getId(), patient.getId(), patient.getName(), window.dateTimeAt(last), window.sgvAt(last), GlucoseTrend.from(window), sparkline(window.since(now - SPARKLINE_WINDOW_MILLIS)), policyResponse);
+    }
+
+    private List<GlucosePointResponse> sparkline(GlucoseWindow window) {
+        var points = new ArrayList<ReadGlucoseHistoryResponse>(window.size());
+        for (int i = 0; i < window.size(); i++) {
+            points.add(ReadGlucoseHistoryResponse.of(null, window.dateTimeAt(i), window.sgvAt(i)));
+        }
+        return glucoseDownsampler.downsample(points, SPARKLINE_POINTS)
+                                 .stream()
+                                 .map(point -> GlucosePointResponse.of(point.dateTime(), point.sgv()))
+                                 .toList();
+    }
+}
@@ -2,14 +2,39 @@ package com.glucocare.server.feature.care.domain;
 
 import com.glucocare.server.feature.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface CareRelationRepository extends JpaRepository<CareRelation, Long> {
     List<CareRelation> findAllByMember(Member member);
 
+    @Query(
+            """
+            SELECT cr FROM CareRelation cr
+            JOIN FETCH cr.patient
+            LEFT JOIN FETCH cr.glucoseAlertPolicy
+            WHERE cr.member.id = :memberId
+            """
+    )
+    List<CareRelation> findAllWithPatientAndPolicyByMemberId(@Param("memberId") Long memberId);
+
     List<CareRelation> findAllByPatientIn(List<Member> patients);
 
+    List<CareRelation> findAllByMemberIdOrPatientId(Long memberId, Long patientId);
+
+    @Query(
+            """
+            SELECT cr FROM CareRelation cr
+            JOIN FETCH cr.member
+            JOIN FETCH cr.patient
+            LEFT JOIN FETCH cr.glucoseAlertPolicy
+            WHERE cr.patient IN :patients
+            """
+    )
+    List<CareRelation> findAllWithMemberAndPolicyByPatientIn(@Param("patients") List<Member> patients);
+
     Boolean existsByMemberAndPatient(Member member, Member patient);
 
     Boolean existsByMemberIdAndPatientId(Long memberId, Long patientId);
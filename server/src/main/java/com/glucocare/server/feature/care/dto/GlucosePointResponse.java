@@ -0,0 +1,10 @@
+package com.glucocare.server.feature.care.dto;
+
+public record GlucosePointResponse(
+        Long dateTime,
+        Integer sgv
+) {
+    public static GlucosePointResponse of(Long dateTime, Integer sgv) {
+        return new GlucosePointResponse(dateTime, sgv);
+    }
+}
@@ -0,0 +1,20 @@
+package com.glucocare.server.feature.care.dto;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseTrend;
+
+import java.util.List;
+
+public record ReadCareDashboardResponse(
+        Long careRelationId,
+        Long patientId,
+        String patientName,
+        Long latestDateTime,
+        Integer latestSgv,
+        GlucoseTrend trend,
+        List<GlucosePointResponse> sparkline,
+        ReadGlucoseAlertPolicyResponse glucoseAlertPolicy
+) {
+    public static ReadCareDashboardResponse of(Long careRelationId, Long patientId, String patientName, Long latestDateTime, Integer latestSgv, GlucoseTrend trend, List<GlucosePointResponse> sparkline, ReadGlucoseAlertPolicyResponse glucoseAlertPolicy) {
+        return new ReadCareDashboardResponse(careRelationId, patientId, patientName, latestDateTime, latestSgv, trend, sparkline, glucoseAlertPolicy);
+    }
+}
@@ -0,0 +1,55 @@
+package com.glucocare.server.feature.care.infra;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class CareRelationCache {
+    // 보호 관계는 생성 후 삭제만 되므로, "보호자 id:환자 id" 형태로 짧게 캐시하여 반복 조회 시 DB 를 거치지 않도록 함
+    private static final String KEY_PREFIX = "care:relation:";
+    private static final Long CACHE_REMAINED_MINUTES = 10L;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<Long> findPatientId(Long careRelationId, Long memberId) {
+        var value = redisTemplate.opsForValue()
+                                 .get(KEY_PREFIX + careRelationId);
+        if (value == null) return Optional.empty();
+        var ids = value.split(":");
+        if (!ids[0].equals(String.valueOf(memberId))) {
+            throw new ApplicationException(ErrorMessage.INVALID_ACCESS);
+        }
+        return Optional.of(Long.parseLong(ids[1]));
+    }
+
+    public void put(CareRelation careRelation) {
+        var value = careRelation.getMember()
+                                .getId() + ":" + careRelation.getPatient()
+                                                             .getId();
+        redisTemplate.opsForValue()
+                     .set(KEY_PREFIX + careRelation.getId(), value, Duration.ofMinutes(CACHE_REMAINED_MINUTES));
+    }
+
+    // 커밋 전에 비우면 그 사이의 조회가 삭제 전의 관계로 다시 채울 수 있으므로, 트랜잭션이 있다면 커밋 이후에 비움
+    public void evict(Long careRelationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisTemplate.delete(KEY_PREFIX + careRelationId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisTemplate.delete(KEY_PREFIX + careRelationId);
+            }
+        });
+    }
+}
@@ -3,9 +3,11 @@ package com.glucocare.server.feature.care.presentation;
 import com.glucocare.server.feature.care.application.CreateCareRelationUseCase;
 import com.glucocare.server.feature.care.application.DeleteCareRelationUseCase;
 import com.glucocare.server.feature.care.application.ReadAllCareRelationUseCase;
+import com.glucocare.server.feature.care.application.ReadCareDashboardUseCase;
 import com.glucocare.server.feature.care.application.ReadCareRelationUseCase;
 import com.glucocare.server.feature.care.dto.CreateCareRelationRequest;
 import com.glucocare.server.feature.care.dto.CreateCareRelationResponse;
+import com.glucocare.server.feature.care.dto.ReadCareDashboardResponse;
 import com.glucocare.server.feature.care.dto.ReadCareRelationResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +31,7 @@ public class CareRelationController {
     private final CreateCareRelationUseCase createCareRelationUseCase;
     private final ReadCareRelationUseCase readCareRelationUseCase;
     private final ReadAllCareRelationUseCase readAllCareRelationUseCase;
+    private final ReadCareDashboardUseCase readCareDashboardUseCase;
     private final DeleteCareRelationUseCase deleteCareRelationUseCase;
 
     @PostMapping
@@ -37,6 +40,12 @@ public class CareRelationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/dashboard")
+    public ResponseEntity<List<ReadCareDashboardResponse>> readDashboard(@AuthenticationPrincipal Long memberId) {
+        var response = readCareDashboardUseCase.execute(memberId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ReadCareRelationResponse> readCareRelation(@AuthenticationPrincipal Long memberId, @PathVariable Long id) {
         var response = readCareRelationUseCase.execute(memberId, id);
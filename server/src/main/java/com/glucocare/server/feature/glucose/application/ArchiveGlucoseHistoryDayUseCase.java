@@ -0,0 +1,41 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseArchiveBlockRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseArchiveBulkRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupPeriod;
+import com.glucocare.server.feature.glucose.domain.GlucoseSeriesCodec;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ArchiveGlucoseHistoryDayUseCase {
+    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseArchiveBlockRepository glucoseArchiveBlockRepository;
+    private final GlucoseArchiveBulkRepository glucoseArchiveBulkRepository;
+
+    // 하루치 원본 혈당을 기존 보관 블록(늦게 들어온 혈당이 있던 경우)과 합쳐 다시 압축하고, 원본 행은 삭제
+    public void execute(Long patientId, Long dayStart) {
+        var dayEnd = GlucoseRollupPeriod.DAY.nextBucketOf(dayStart);
+        var hot = glucoseHistoryRepository.findAllByPatientIdAndDateTimeRange(patientId, dayStart, dayEnd, Pageable.unpaged());
+        if (hot.isEmpty()) return;
+
+        var readings = new TreeMap<Long, ReadGlucoseHistoryResponse>();
+        glucoseArchiveBlockRepository.findAllByPatientIdAndDayStartBetweenOrderByDayStartAsc(patientId, dayStart, dayStart)
+                                     .forEach(block -> GlucoseSeriesCodec.decode(block.getPayload())
+                                                                         .forEach(history -> readings.put(history.dateTime(), history)));
+        hot.forEach(history -> readings.put(history.dateTime(), history));
+
+        var payload = GlucoseSeriesCodec.encode(new ArrayList<>(readings.values()));
+        glucoseArchiveBulkRepository.upsertBlock(patientId, dayStart, readings.size(), payload);
+        glucoseArchiveBulkRepository.deleteHotReadings(patientId, dayStart, dayEnd);
+    }
+}
@@ -0,0 +1,41 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseBackfillBulkRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseBackfillFormat;
+import com.glucocare.server.feature.glucose.dto.IngestGlucoseHistoryResponse;
+import com.glucocare.server.feature.glucose.infra.GlucoseBackfillReader;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackfillGlucoseHistoryUseCase {
+    private final GlucoseBackfillReader glucoseBackfillReader;
+    private final GlucoseBackfillBulkRepository glucoseBackfillBulkRepository;
+    private final MergeGlucoseBackfillUseCase mergeGlucoseBackfillUseCase;
+    private final GlucoseHistoryCache glucoseHistoryCache;
+
+    // CSV 를 읽는 동안에는 임시 테이블에만 적재하고, 다 읽은 뒤 한 번에 병합하여 캐시 무효화와 집계 재계산을 한 번씩만 수행
+    public IngestGlucoseHistoryResponse execute(Long patientId, GlucoseBackfillFormat format, ZoneId zone, InputStream inputStream, String contentEncoding) {
+        var batchId = UUID.randomUUID()
+                          .toString();
+        try {
+            var received = glucoseBackfillReader.read(inputStream, contentEncoding, format, zone, readings -> glucoseBackfillBulkRepository.stage(batchId, patientId, readings));
+            var merged = mergeGlucoseBackfillUseCase.execute(patientId, batchId);
+            if (merged > 0) {
+                glucoseHistoryCache.clearByPatientId(patientId); // 다음 조회 시점에 새로 만들어짐
+            }
+            log.info("혈당 이력을 가져왔습니다. patientId={}, format={}, received={}, merged={}", patientId, format, received, merged);
+            return IngestGlucoseHistoryResponse.of(received, received - merged);
+        } finally {
+            glucoseBackfillBulkRepository.clear(batchId);
+        }
+    }
+}
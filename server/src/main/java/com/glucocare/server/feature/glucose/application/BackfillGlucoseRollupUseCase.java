@@ -0,0 +1,23 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseChangeSequenceBulkRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BackfillGlucoseRollupUseCase {
+    private final GlucoseChangeSequenceBulkRepository glucoseChangeSequenceBulkRepository;
+    private final GlucoseRollupBulkRepository glucoseRollupBulkRepository;
+
+    // 한 환자의 전체 기간 집계를 원본 테이블과 압축 보관 블록으로부터 다시 계산
+    // 환자의 쓰기 잠금을 먼저 잡아, 다시 계산하는 동안 저장된 혈당의 증분이 덮어써지지 않도록 함
+    public void execute(Long patientId) {
+        glucoseChangeSequenceBulkRepository.lock(patientId);
+        glucoseRollupBulkRepository.findOldestDateTime(patientId)
+                                   .ifPresent(oldest -> glucoseRollupBulkRepository.recompute(patientId, oldest, System.currentTimeMillis()));
+    }
+}
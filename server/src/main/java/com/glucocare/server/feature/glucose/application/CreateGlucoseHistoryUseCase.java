@@ -3,14 +3,24 @@ package com.glucocare.server.feature.glucose.application;
 import com.glucocare.server.exception.ApplicationException;
 import com.glucocare.server.exception.ErrorMessage;
 import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseChangeSequenceBulkRepository;
 import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
 import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseIngestedEvent;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupBulkRepository;
 import com.glucocare.server.feature.glucose.dto.CreateGlucoseHistoryRequest;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
 import com.glucocare.server.feature.glucose.infra.GlucoseHistoryCache;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryWatermark;
+import com.glucocare.server.feature.glucose.infra.GlucoseRingBufferStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -18,15 +28,28 @@ public class CreateGlucoseHistoryUseCase {
 
     private final GlucoseHistoryRepository glucoseHistoryRepository;
     private final CareRelationRepository careRelationRepository;
+    private final GlucoseRollupBulkRepository glucoseRollupBulkRepository;
+    private final GlucoseChangeSequenceBulkRepository glucoseChangeSequenceBulkRepository;
     private final GlucoseHistoryCache glucoseHistoryCache;
+    private final GlucoseHistoryWatermark glucoseHistoryWatermark;
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public void execute(Long memberId, CreateGlucoseHistoryRequest request) {
         var careRelation = careRelationRepository.findById(request.careRelationId())
                                                  .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
         careRelation.validateOwnership(memberId);
         var patient = careRelation.getPatient();
-        var glucoseHistory = new GlucoseHistory(patient, request.sgv(), request.dateTime());
+        var changeSequence = glucoseChangeSequenceBulkRepository.reserve(patient.getId(), 1);
+        // 압축 보관된 측정 시각에 입력하는 경우 보관된 값을 덮어쓰는 것이므로 집계에 새로 더하지 않음
+        var previousSgvs = glucoseRollupBulkRepository.findCurrentSgvs(patient.getId(), List.of(request.dateTime()));
+        var glucoseHistory = new GlucoseHistory(patient, request.sgv(), request.dateTime(), changeSequence);
         glucoseHistoryRepository.save(glucoseHistory);
-        glucoseHistoryCache.clearByPatientId(patient.getId());
+        glucoseRollupBulkRepository.apply(patient.getId(), previousSgvs, Map.of(glucoseHistory.getDateTime(), glucoseHistory.getSgv()));
+        var response = ReadGlucoseHistoryResponse.of(glucoseHistory.getId(), glucoseHistory.getDateTime(), glucoseHistory.getSgv());
+        glucoseHistoryCache.appendAll(patient.getId(), List.of(response));
+        glucoseHistoryWatermark.touch(patient.getId(), glucoseHistory.getDateTime());
+        glucoseRingBufferStore.appendAll(patient.getId(), Map.of(glucoseHistory.getDateTime(), glucoseHistory.getSgv()));
+        applicationEventPublisher.publishEvent(GlucoseIngestedEvent.of(patient.getId()));
     }
 }
@@ -0,0 +1,30 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DrainGlucoseIngestUseCase {
+    private final GlucoseHistoryBulkRepository glucoseHistoryBulkRepository;
+    private final GlucoseIngestPropagator glucoseIngestPropagator;
+
+    // 꺼낸 배치 전체를 하나의 트랜잭션과 환자를 가로지르는 multi-row upsert 로 저장하며, 이미 같은 값으로 저장된 측정값은 제외
+    public void execute(Map<Long, Map<Long, Integer>> readingsByPatient) {
+        if (readingsByPatient.isEmpty()) return;
+        var writtenByPatient = glucoseHistoryBulkRepository.upsertAll(readingsByPatient);
+        writtenByPatient.forEach((patientId, written) -> glucoseIngestPropagator.propagate(patientId, readingsByPatient.get(patientId), written));
+    }
+
+    // 배치 전체 저장에 실패했을 때 환자별로 다시 시도하기 위한 한 환자 단위 저장
+    public void execute(Long patientId, Map<Long, Integer> readings) {
+        if (readings.isEmpty()) return;
+        var written = glucoseHistoryBulkRepository.upsertBatch(patientId, readings);
+        glucoseIngestPropagator.propagate(patientId, readings, written);
+    }
+}
@@ -0,0 +1,68 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseArchiveReader;
+import com.glucocare.server.feature.glucose.domain.GlucoseExportFormat;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryExportRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportGlucoseHistoryUseCase {
+    private final CareRelationRepository careRelationRepository;
+    private final GlucoseHistoryExportRepository glucoseHistoryExportRepository;
+    private final GlucoseArchiveReader glucoseArchiveReader;
+
+    // 권한 확인은 요청 스레드에서 수행하고, 실제 조회와 쓰기는 응답 스트림을 쓰는 시점에 한 행씩 처리
+    public StreamingResponseBody execute(Long memberId, Long careRelationId, GlucoseExportFormat format) {
+        var careRelation = careRelationRepository.findById(careRelationId)
+                                                 .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
+        careRelation.validateOwnership(memberId);
+        var patientId = careRelation.getPatient()
+                                    .getId();
+
+        return outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(format.header());
+            // 압축 보관된 날은 하루씩 풀어서 쓰고, 그 사이 구간은 원본 테이블에서 스트리밍하여 메모리에는 최대 하루치만 올림
+            var cursor = Long.MIN_VALUE;
+            for (var dayStart : glucoseHistoryExportRepository.findArchivedDayStarts(patientId)) {
+                if (cursor < dayStart) {
+                    streamHotReadings(writer, format, patientId, cursor, dayStart);
+                }
+                var dayEnd = GlucoseRollupPeriod.DAY.nextBucketOf(dayStart);
+                var archived = glucoseArchiveReader.findRangeByPatientId(patientId, dayStart, dayEnd, Integer.MAX_VALUE);
+                for (int i = archived.size() - 1; i >= 0; i--) {
+                    var history = archived.get(i);
+                    writer.write(format.row(history.id(), history.dateTime(), history.sgv()));
+                }
+                cursor = dayEnd;
+            }
+            streamHotReadings(writer, format, patientId, cursor, Long.MAX_VALUE);
+            writer.flush();
+        };
+    }
+
+    private void streamHotReadings(BufferedWriter writer, GlucoseExportFormat format, Long patientId, Long from, Long to) {
+        glucoseHistoryExportRepository.streamByPatientId(patientId, from, to, rs -> {
+            try {
+                writer.write(format.row(rs.getLong("id"), rs.getLong("date_time"), rs.getInt("sgv")));
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseIngestedEvent;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryCache;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryWatermark;
+import com.glucocare.server.feature.glucose.infra.GlucoseIngestDigest;
+import com.glucocare.server.feature.glucose.infra.GlucoseRingBufferStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 업로드 경로(Dexcom, Health, 비동기 수집)가 저장 후 공통으로 반영하는 중복 확인 기록, 캐시, 변경 표시, 최근 혈당 버퍼, 알림 이벤트
+// 저장 트랜잭션 안에서 호출하며, 각 단계는 커밋 이후에 반영되므로 롤백된 혈당이 남지 않음
+@Component
+@RequiredArgsConstructor
+public class GlucoseIngestPropagator {
+    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseHistoryCache glucoseHistoryCache;
+    private final GlucoseHistoryWatermark glucoseHistoryWatermark;
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
+    private final GlucoseIngestDigest glucoseIngestDigest;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // received 는 저장을 시도한 업로드 전체, written 은 그중 실제로 저장한 측정값
+    public void propagate(Long patientId, Map<Long, Integer> received, Map<Long, Integer> written) {
+        glucoseIngestDigest.record(patientId, received);
+        if (written.isEmpty()) return;
+        appendGlucoseHistoryCache(patientId, written);
+        touchWatermark(patientId, written);
+        glucoseRingBufferStore.appendAll(patientId, written);
+        applicationEventPublisher.publishEvent(GlucoseIngestedEvent.of(patientId));
+    }
+
+    private void touchWatermark(Long patientId, Map<Long, Integer> readings) {
+        readings.keySet()
+                .stream()
+                .mapToLong(Long::longValue)
+                .max()
+                .ifPresent(latest -> glucoseHistoryWatermark.touch(patientId, latest));
+    }
+
+    private void appendGlucoseHistoryCache(Long patientId, Map<Long, Integer> readings) {
+        if (!glucoseHistoryCache.existsByPatientId(patientId)) return; // 캐시가 없다면 다음 조회 시점에 새로 만들어짐
+        var range = readings.keySet()
+                            .stream()
+                            .mapToLong(Long::longValue)
+                            .summaryStatistics();
+        var histories = glucoseHistoryRepository.findAllByPatientIdAndDateTimeRange(patientId, range.getMin(), range.getMax() + 1, Pageable.unpaged());
+        glucoseHistoryCache.appendAll(patientId, histories);
+    }
+}
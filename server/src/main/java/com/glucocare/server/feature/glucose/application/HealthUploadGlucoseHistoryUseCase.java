@@ -1,23 +1,33 @@
 package com.glucocare.server.feature.glucose.application;
 
-import com.glucocare.server.feature.glucose.domain.HealthGlucoseHistoryBulkRepository;
-import com.glucocare.server.feature.glucose.dto.HealthGlucoseRequest;
-import com.glucocare.server.feature.glucose.infra.GlucoseHistoryCache;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryBulkRepository;
+import com.glucocare.server.feature.glucose.infra.GlucoseIngestDigest;
+import com.glucocare.server.feature.glucose.infra.GlucoseIngestQueue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class HealthUploadGlucoseHistoryUseCase {
-    private final HealthGlucoseHistoryBulkRepository healthGlucoseHistoryBulkRepository;
-    private final GlucoseHistoryCache glucoseHistoryCache;
+    private final GlucoseHistoryBulkRepository glucoseHistoryBulkRepository;
+    private final GlucoseIngestQueue glucoseIngestQueue;
+    private final GlucoseIngestDigest glucoseIngestDigest;
+    private final GlucoseIngestPropagator glucoseIngestPropagator;
 
-    public void execute(Long patientId, List<HealthGlucoseRequest> glucoseRequestList) {
-        healthGlucoseHistoryBulkRepository.upsertBatch(patientId, glucoseRequestList);
-        glucoseHistoryCache.clearByPatientId(patientId);
+    // 실제로 저장(또는 대기열에 적재)한 측정값 개수를 반환
+    public Integer execute(Long patientId, Map<Long, Integer> readings) {
+        var candidates = glucoseIngestDigest.filterChanged(patientId, readings);
+        // 비동기 수집 모드에서는 대기열에 적재한 뒤 바로 응답
+        if (candidates.isEmpty() || glucoseIngestQueue.offer(patientId, candidates)) {
+            return candidates.size();
+        }
+
+        var written = glucoseHistoryBulkRepository.upsertBatch(patientId, candidates);
+        glucoseIngestPropagator.propagate(patientId, candidates, written);
+        return written.size();
     }
 }
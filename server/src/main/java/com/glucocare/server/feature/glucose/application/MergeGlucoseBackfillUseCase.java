@@ -0,0 +1,46 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseBackfillBulkRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseChangeSequenceBulkRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupBulkRepository;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryWatermark;
+import com.glucocare.server.feature.glucose.infra.GlucoseIngestDigest;
+import com.glucocare.server.feature.glucose.infra.GlucoseRingBufferStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MergeGlucoseBackfillUseCase {
+    private final GlucoseBackfillBulkRepository glucoseBackfillBulkRepository;
+    private final GlucoseRollupBulkRepository glucoseRollupBulkRepository;
+    private final GlucoseChangeSequenceBulkRepository glucoseChangeSequenceBulkRepository;
+    private final GlucoseHistoryWatermark glucoseHistoryWatermark;
+    private final GlucoseIngestDigest glucoseIngestDigest;
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
+
+    // 임시 테이블의 batch 를 한 번에 병합하고, 가져온 구간의 집계를 원본으로부터 한 번만 다시 계산
+    // 반영한 행 수를 반환
+    public Integer execute(Long patientId, String batchId) {
+        glucoseBackfillBulkRepository.discardArchivedDays(batchId);
+        var range = glucoseBackfillBulkRepository.findRange(batchId);
+        if (range.isEmpty()) return 0;
+        var firstSequence = glucoseChangeSequenceBulkRepository.reserve(patientId, Math.toIntExact(range.get()
+                                                                                                   .getCount()));
+        var merged = glucoseBackfillBulkRepository.merge(batchId, firstSequence);
+        if (merged == 0) return 0;
+
+        glucoseRollupBulkRepository.recompute(patientId, range.get()
+                                                              .getMin(), range.get()
+                                                                              .getMax());
+        glucoseHistoryWatermark.touch(patientId, range.get()
+                                                      .getMax());
+        // 최근 24시간에 해당하는 혈당은 실시간 업로드와 같이 최근 혈당 버퍼와 중복 확인용 기록에도 반영
+        var recent = glucoseBackfillBulkRepository.findSince(batchId, System.currentTimeMillis() - GlucoseRingBufferStore.WINDOW_MILLIS);
+        glucoseRingBufferStore.appendAll(patientId, recent);
+        glucoseIngestDigest.record(patientId, recent);
+        return merged;
+    }
+}
@@ -4,8 +4,8 @@ import com.glucocare.server.client.PredictClient;
 import com.glucocare.server.exception.ApplicationException;
 import com.glucocare.server.exception.ErrorMessage;
 import com.glucocare.server.feature.care.domain.CareRelationRepository;
-import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
 import com.glucocare.server.feature.glucose.dto.PredictGlucoseResponse;
+import com.glucocare.server.feature.glucose.infra.GlucoseRingBufferStore;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,7 +16,9 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional
 public class PredictGlucoseWithExerciseUseCase {
-    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private static final int PREDICT_POINTS = 20;
+
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
     private final CareRelationRepository careRelationRepository;
     private final PredictClient predictClient;
 
@@ -24,8 +26,10 @@ public class PredictGlucoseWithExerciseUseCase {
         var careRelation = careRelationRepository.findById(careRelationId)
                                                  .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
         careRelation.validateOwnership(memberId);
-        var recentGlucoseHistories = glucoseHistoryRepository.findTop20ByPatientOrderByDateTimeDesc(careRelation.getPatient());
-        if (recentGlucoseHistories.size() < 20) {
+        var recentGlucoseHistories = glucoseRingBufferStore.findRecentByPatientId(careRelation.getPatient()
+                                                                                         .getId(), System.currentTimeMillis() - GlucoseRingBufferStore.WINDOW_MILLIS)
+                                                           .latest(PREDICT_POINTS);
+        if (recentGlucoseHistories.size() < PREDICT_POINTS) {
             throw new ApplicationException(ErrorMessage.NEED_MORE_GLUCOSE_HISTORIES);
         }
         return predictClient.predictExerciseGlucose(recentGlucoseHistories, met, duration);
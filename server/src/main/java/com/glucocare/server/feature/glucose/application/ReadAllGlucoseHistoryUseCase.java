@@ -3,42 +3,38 @@ package com.glucocare.server.feature.glucose.application;
 import com.glucocare.server.exception.ApplicationException;
 import com.glucocare.server.exception.ErrorMessage;
 import com.glucocare.server.feature.care.domain.CareRelationRepository;
-import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
-import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseArchiveReader;
 import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
 import com.glucocare.server.feature.glucose.infra.GlucoseHistoryCache;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryRebuildCoordinator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ReadAllGlucoseHistoryUseCase {
-    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseArchiveReader glucoseArchiveReader;
     private final CareRelationRepository careRelationRepository;
     private final GlucoseHistoryCache glucoseHistoryCache;
+    private final GlucoseHistoryRebuildCoordinator glucoseHistoryRebuildCoordinator;
 
+    // 재구성을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 각 조회를 개별 수행
     public List<ReadGlucoseHistoryResponse> execute(Long memberId, Long careRelationId) {
         var careRelation = careRelationRepository.findById(careRelationId)
                                                  .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
         careRelation.validateOwnership(memberId);
         var patient = careRelation.getPatient();
-        if (glucoseHistoryCache.existsByPatient(patient)) {
-            return glucoseHistoryCache.readAllByPatient(patient);
+        var cached = glucoseHistoryCache.findAllByPatientId(patient.getId());
+        if (cached.isPresent()) {
+            return cached.get();
         }
-
-        var result = glucoseHistoryRepository.findAllByPatientOrderByDateTimeDesc(patient)
-                                             .stream()
-                                             .map(this::convertGlucoseHistoryResponse)
-                                             .toList();
-        glucoseHistoryCache.createGlucoseHistories(patient, result);
-        return result;
-    }
-
-    private ReadGlucoseHistoryResponse convertGlucoseHistoryResponse(GlucoseHistory glucoseHistory) {
-        return ReadGlucoseHistoryResponse.of(glucoseHistory.getId(), glucoseHistory.getDateTime(), glucoseHistory.getSgv());
+        return glucoseHistoryRebuildCoordinator.rebuild(patient.getId(), () -> {
+            var version = glucoseHistoryCache.findVersionByPatientId(patient.getId());
+            var result = glucoseArchiveReader.findAllByPatientId(patient.getId());
+            glucoseHistoryCache.createGlucoseHistories(patient, result, version);
+            return result;
+        });
     }
 }
@@ -0,0 +1,98 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseArchiveReader;
+import com.glucocare.server.feature.glucose.domain.GlucoseDownsampler;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollup;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupPeriod;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupRepository;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReadGlucoseChartUseCase {
+    private static final int DEFAULT_MAX_POINTS = 300;
+    private static final int MAX_POINTS = 2000;
+    private static final Long DEFAULT_WINDOW_MILLIS = Duration.ofDays(1)
+                                                              .toMillis();
+    private static final Long RAW_WINDOW_MILLIS = Duration.ofDays(7)
+                                                          .toMillis(); // 이보다 긴 구간은 원본 대신 시간 단위 집계로 그림
+
+    private final GlucoseArchiveReader glucoseArchiveReader;
+    private final CareRelationRepository careRelationRepository;
+    private final GlucoseHistoryCache glucoseHistoryCache;
+    private final GlucoseDownsampler glucoseDownsampler;
+    private final GlucoseRollupRepository glucoseRollupRepository;
+
+    public List<ReadGlucoseHistoryResponse> execute(Long memberId, Long careRelationId, Long from, Long to, Integer maxPoints) {
+        var careRelation = careRelationRepository.findById(careRelationId)
+                                                 .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
+        careRelation.validateOwnership(memberId);
+        var points = getMaxPoints(maxPoints);
+        var upperBound = to == null ? System.currentTimeMillis() + 1 : to;
+        var lowerBound = from == null ? upperBound - DEFAULT_WINDOW_MILLIS : from;
+        if (lowerBound >= upperBound) return List.of();
+
+        var patientId = careRelation.getPatient()
+                                    .getId();
+        // 오름차순으로 다운샘플링한 뒤, 다른 조회 API 와 같은 최신순으로 반환
+        // 긴 구간의 집계 점은 구간별 최솟값/최댓값이므로, LTTB 대신 묶음별 최솟값/최댓값을 그대로 남겨 급격한 변화를 보존
+        var sampled = new ArrayList<ReadGlucoseHistoryResponse>();
+        if (upperBound - lowerBound > RAW_WINDOW_MILLIS) {
+            sampled.addAll(glucoseDownsampler.downsampleMinMax(readRollups(patientId, lowerBound, upperBound), points));
+        } else {
+            sampled.addAll(glucoseDownsampler.downsample(readHistories(patientId, lowerBound, upperBound), points));
+        }
+        Collections.reverse(sampled);
+        return sampled;
+    }
+
+    // 조회 결과는 최신순이므로 오름차순으로 바꿔서 반환
+    private List<ReadGlucoseHistoryResponse> readHistories(Long patientId, long lowerBound, long upperBound) {
+        var histories = glucoseHistoryCache.findRangeByPatientId(patientId, lowerBound, upperBound, Integer.MAX_VALUE)
+                                           .orElseGet(() -> glucoseArchiveReader.findRangeByPatientId(patientId, lowerBound, upperBound, Integer.MAX_VALUE));
+        var ascending = new ArrayList<>(histories);
+        Collections.reverse(ascending);
+        return ascending;
+    }
+
+    // 긴 구간은 원본을 모두 읽지 않고, 시간 단위 집계마다 최솟값과 최댓값을 측정된 시각 순서대로 두 점으로 사용
+    private List<ReadGlucoseHistoryResponse> readRollups(Long patientId, long lowerBound, long upperBound) {
+        var period = GlucoseRollupPeriod.HOUR;
+        var points = new ArrayList<ReadGlucoseHistoryResponse>();
+        glucoseRollupRepository.findAllByPatientIdAndPeriodAndBucketStartBetweenOrderByBucketStartAsc(patientId, period, period.bucketOf(lowerBound), upperBound - 1)
+                               .forEach(rollup -> points.addAll(convertChartPoints(period, rollup)));
+        return points;
+    }
+
+    // 집계 값은 개별 측정값이 아니므로 id 를 비워서 반환
+    // 측정 시각이 채워지기 전의 집계는 최솟값을 구간의 1/4, 최댓값을 3/4 시각에 둠
+    private List<ReadGlucoseHistoryResponse> convertChartPoints(GlucoseRollupPeriod period, GlucoseRollup rollup) {
+        var bucketStart = rollup.getBucketStart();
+        var quarter = (period.nextBucketOf(bucketStart) - bucketStart) / 4;
+        var minDateTime = rollup.getMinDateTime() == null ? bucketStart + quarter : rollup.getMinDateTime();
+        var maxDateTime = rollup.getMaxDateTime() == null ? bucketStart + 3 * quarter : rollup.getMaxDateTime();
+        var min = ReadGlucoseHistoryResponse.of(null, minDateTime, rollup.getMinSgv());
+        var max = ReadGlucoseHistoryResponse.of(null, maxDateTime, rollup.getMaxSgv());
+        if (minDateTime == maxDateTime) return List.of(min);
+        return minDateTime < maxDateTime ? List.of(min, max) : List.of(max, min);
+    }
+
+    private int getMaxPoints(Integer maxPoints) {
+        if (maxPoints == null) return DEFAULT_MAX_POINTS;
+        if (maxPoints < 3) throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+        return Math.min(maxPoints, MAX_POINTS);
+    }
+}
@@ -0,0 +1,59 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseChangeSequenceBulkRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryChangesResponse;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReadGlucoseHistoryChangesUseCase {
+    private static final int MAX_LIMIT = 2016; // 5분 간격 기준 일주일치
+    // 워터마크는 마지막으로 받은 변경 번호이며, 음수는 변경 번호 도입 전의 행(변경 번호 0)을 id 순서로 이어 받는 중이라는 뜻
+    // (-1 은 처음부터, -(id + 1) 은 해당 id 이후부터)
+    private static final Long LEGACY_START = -1L;
+
+    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseChangeSequenceBulkRepository glucoseChangeSequenceBulkRepository;
+    private final CareRelationRepository careRelationRepository;
+
+    // 워터마크 이후에 추가되거나 sgv 가 덮어써진 혈당을 변경 번호 순으로 반환
+    // 변경 번호는 환자별로 커밋 순서대로 발급되므로, 조회 시점에 진행 중인 쓰기가 있어도 이후 조회에서 빠짐없이 받을 수 있음
+    public ReadGlucoseHistoryChangesResponse execute(Long memberId, Long careRelationId, Long since) {
+        var careRelation = careRelationRepository.findById(careRelationId)
+                                                 .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
+        careRelation.validateOwnership(memberId);
+        var patientId = careRelation.getPatient()
+                                    .getId();
+        // 발급된 적 없는 번호(이전 형식의 시각 워터마크 등)를 받으면 처음부터 다시 동기화
+        var watermark = since == null || since > glucoseChangeSequenceBulkRepository.findLastSequence(patientId) ? LEGACY_START : since;
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건을 더 조회
+        var page = PageRequest.of(0, MAX_LIMIT + 1);
+        var changes = watermark < 0 ? glucoseHistoryRepository.findAllByPatientIdAndLegacyIdAfter(patientId, -watermark - 1, page) : glucoseHistoryRepository.findAllByPatientIdAndChangeSequenceAfter(patientId, watermark, page);
+        var hasNext = changes.size() > MAX_LIMIT;
+        var histories = hasNext ? changes.subList(0, MAX_LIMIT) : changes;
+        var nextWatermark = histories.isEmpty() ? Math.max(watermark, 0L) : watermarkOf(histories.getLast());
+        return ReadGlucoseHistoryChangesResponse.of(histories.stream()
+                                                             .map(this::convertGlucoseHistoryResponse)
+                                                             .toList(), nextWatermark, hasNext);
+    }
+
+    private Long watermarkOf(GlucoseHistory glucoseHistory) {
+        if (glucoseHistory.getChangeSequence() > 0) return glucoseHistory.getChangeSequence();
+        return -glucoseHistory.getId() - 1;
+    }
+
+    private ReadGlucoseHistoryResponse convertGlucoseHistoryResponse(GlucoseHistory glucoseHistory) {
+        return ReadGlucoseHistoryResponse.of(glucoseHistory.getId(), glucoseHistory.getDateTime(), glucoseHistory.getSgv());
+    }
+}
@@ -0,0 +1,33 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.care.infra.CareRelationCache;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryWatermark;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ReadGlucoseHistoryETagUseCase {
+    private final CareRelationRepository careRelationRepository;
+    private final CareRelationCache careRelationCache;
+    private final GlucoseHistoryWatermark glucoseHistoryWatermark;
+
+    // 보호 관계와 워터마크 모두 Redis 에서 확인되면 DB 를 조회하지 않음
+    public String execute(Long memberId, Long careRelationId) {
+        var patientId = careRelationCache.findPatientId(careRelationId, memberId)
+                                         .orElseGet(() -> readPatientId(memberId, careRelationId));
+        return glucoseHistoryWatermark.findETagByPatientId(patientId);
+    }
+
+    private Long readPatientId(Long memberId, Long careRelationId) {
+        var careRelation = careRelationRepository.findById(careRelationId)
+                                                 .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
+        careRelation.validateOwnership(memberId);
+        careRelationCache.put(careRelation);
+        return careRelation.getPatient()
+                           .getId();
+    }
+}
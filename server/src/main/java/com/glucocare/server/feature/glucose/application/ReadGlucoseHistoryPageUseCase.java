@@ -0,0 +1,70 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseArchiveReader;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryPageResponse;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import com.glucocare.server.feature.glucose.infra.GlucoseHistoryCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReadGlucoseHistoryPageUseCase {
+    private static final int DEFAULT_LIMIT = 288; // 5분 간격 기준 하루치
+    private static final int MAX_LIMIT = 2016; // 5분 간격 기준 일주일치
+
+    private final GlucoseArchiveReader glucoseArchiveReader;
+    private final CareRelationRepository careRelationRepository;
+    private final GlucoseHistoryCache glucoseHistoryCache;
+
+    public ReadGlucoseHistoryPageResponse execute(Long memberId, Long careRelationId, Long from, Long to, Long cursor, Integer limit) {
+        var careRelation = careRelationRepository.findById(careRelationId)
+                                                 .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
+        careRelation.validateOwnership(memberId);
+        var pageSize = getPageSize(limit);
+        var lowerBound = from == null ? 0L : from;
+        var upperBound = getUpperBound(to, cursor);
+        if (lowerBound >= upperBound) {
+            return ReadGlucoseHistoryPageResponse.of(List.of(), null, false);
+        }
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건을 더 조회
+        var histories = readHistories(careRelation.getPatient()
+                                                  .getId(), lowerBound, upperBound, pageSize + 1);
+        if (histories.size() <= pageSize) {
+            return ReadGlucoseHistoryPageResponse.of(histories, null, false);
+        }
+        var page = histories.subList(0, pageSize);
+        return ReadGlucoseHistoryPageResponse.of(page, nextCursor(page), true);
+    }
+
+    private List<ReadGlucoseHistoryResponse> readHistories(Long patientId, long from, long to, int limit) {
+        return glucoseHistoryCache.findRangeByPatientId(patientId, from, to, limit)
+                                  .orElseGet(() -> glucoseArchiveReader.findRangeByPatientId(patientId, from, to, limit));
+    }
+
+    private int getPageSize(Integer limit) {
+        if (limit == null) return DEFAULT_LIMIT;
+        if (limit < 1) throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    // cursor 는 직전 페이지의 마지막 측정 시각이며, (patient_id, date_time) 유니크 키 덕분에 측정 시각만으로 위치를 특정할 수 있음
+    private long getUpperBound(Long to, Long cursor) {
+        var upperBound = to == null ? Long.MAX_VALUE : to;
+        if (cursor == null) return upperBound;
+        return Math.min(upperBound, cursor);
+    }
+
+    private Long nextCursor(List<ReadGlucoseHistoryResponse> page) {
+        return page.getLast()
+                   .dateTime();
+    }
+}
@@ -0,0 +1,45 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollup;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupPeriod;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupRepository;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseStatisticsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReadGlucoseStatisticsUseCase {
+    private static final Long DEFAULT_WINDOW_MILLIS = Duration.ofDays(7)
+                                                              .toMillis();
+
+    private final CareRelationRepository careRelationRepository;
+    private final GlucoseRollupRepository glucoseRollupRepository;
+
+    public List<ReadGlucoseStatisticsResponse> execute(Long memberId, Long careRelationId, GlucoseRollupPeriod period, Long from, Long to) {
+        var careRelation = careRelationRepository.findById(careRelationId)
+                                                 .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
+        careRelation.validateOwnership(memberId);
+        var rollupPeriod = period == null ? GlucoseRollupPeriod.DAY : period;
+        var upperBound = to == null ? System.currentTimeMillis() : to;
+        var lowerBound = from == null ? upperBound - DEFAULT_WINDOW_MILLIS : from;
+
+        return glucoseRollupRepository.findAllByPatientIdAndPeriodAndBucketStartBetweenOrderByBucketStartAsc(careRelation.getPatient()
+                                                                                                                          .getId(), rollupPeriod, rollupPeriod.bucketOf(lowerBound), upperBound)
+                                      .stream()
+                                      .map(this::convertGlucoseStatisticsResponse)
+                                      .toList();
+    }
+
+    private ReadGlucoseStatisticsResponse convertGlucoseStatisticsResponse(GlucoseRollup rollup) {
+        return ReadGlucoseStatisticsResponse.of(rollup.getBucketStart(), rollup.getReadingCount(), rollup.getMean(), rollup.getStandardDeviation(), rollup.getMinSgv(), rollup.getMaxSgv(), rollup.getTimeInRange(), rollup.getHypoCount(), rollup.getHyperCount());
+    }
+}
@@ -0,0 +1,49 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseTrend;
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
+import com.glucocare.server.feature.glucose.dto.NightscoutEntryResponse;
+import com.glucocare.server.feature.glucose.infra.GlucoseRingBufferStore;
+import com.glucocare.server.feature.glucose.infra.PatientAccessCodeCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// 팔로워 앱, 워치페이스가 1분마다 호출하므로 트랜잭션 없이 메모리(접근 코드 캐시, 최근 혈당 버퍼)에서만 응답
+// 버퍼가 없는 경우에만 DB 에서 최근 24시간을 한 번 읽어 만들며, 24시간보다 오래된 혈당은 반환하지 않음
+@Service
+@RequiredArgsConstructor
+public class ReadNightscoutEntriesUseCase {
+    private static final int DEFAULT_COUNT = 10; // Nightscout 기본값
+    private static final Long TREND_LOOKBACK_MILLIS = Duration.ofMinutes(20)
+                                                              .toMillis();
+
+    private final PatientAccessCodeCache patientAccessCodeCache;
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
+
+    // 최신 혈당부터 count 건을 반환하며, since 가 있다면 그 이후(포함)의 혈당만 반환
+    public List<NightscoutEntryResponse> execute(Long patientId, String accessCode, Integer count, Long since) {
+        patientAccessCodeCache.validate(patientId, accessCode);
+        var from = System.currentTimeMillis() - GlucoseRingBufferStore.WINDOW_MILLIS;
+        var window = glucoseRingBufferStore.findRecentByPatientId(patientId, since == null ? from : Math.max(from, since - TREND_LOOKBACK_MILLIS));
+        var entries = window.since(since == null ? from : since)
+                            .latest(count == null || count < 1 ? DEFAULT_COUNT : count);
+
+        var responses = new ArrayList<NightscoutEntryResponse>(entries.size());
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            responses.add(convertEntryResponse(patientId, window, entries.dateTimeAt(i), entries.sgvAt(i)));
+        }
+        return responses;
+    }
+
+    // 각 혈당의 추세는 그 시점까지 20분 이내의 혈당만으로 계산
+    private NightscoutEntryResponse convertEntryResponse(Long patientId, GlucoseWindow window, long dateTime, int sgv) {
+        var trend = GlucoseTrend.from(window.between(dateTime - TREND_LOOKBACK_MILLIS, dateTime + 1));
+        return NightscoutEntryResponse.of(patientId + "-" + dateTime, sgv, dateTime, Instant.ofEpochMilli(dateTime)
+                                                                                           .toString(), trend.getDirection());
+    }
+}
@@ -0,0 +1,80 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseArchiveBulkRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupPeriod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "glucose.history.archive.enabled", havingValue = "true")
+public class ScheduledArchiveGlucoseHistoryUseCase {
+    private static final String LOCK_KEY = "glucose:history:archive-lock";
+    private static final Duration LOCK_TIMEOUT = Duration.ofHours(1);
+    // 작업이 LOCK_TIMEOUT 보다 오래 걸려 다른 노드가 잠금을 가져간 경우, 그 잠금을 지우지 않도록 자신의 토큰일 때만 해제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final GlucoseArchiveBulkRepository glucoseArchiveBulkRepository;
+    private final ArchiveGlucoseHistoryDayUseCase archiveGlucoseHistoryDayUseCase;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Long archiveAfterMillis;
+
+    public ScheduledArchiveGlucoseHistoryUseCase(GlucoseArchiveBulkRepository glucoseArchiveBulkRepository, ArchiveGlucoseHistoryDayUseCase archiveGlucoseHistoryDayUseCase, RedisTemplate<String, String> redisTemplate, @Value("${glucose.history.archive.after-days:90}") Long archiveAfterDays) {
+        this.glucoseArchiveBulkRepository = glucoseArchiveBulkRepository;
+        this.archiveGlucoseHistoryDayUseCase = archiveGlucoseHistoryDayUseCase;
+        this.redisTemplate = redisTemplate;
+        this.archiveAfterMillis = Duration.ofDays(archiveAfterDays)
+                                          .toMillis();
+    }
+
+    // 매일 새벽, 보관 기간이 지난 날짜의 혈당을 하루 단위로 압축 보관
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void execute() {
+        var token = UUID.randomUUID()
+                        .toString();
+        var acquired = redisTemplate.opsForValue()
+                                    .setIfAbsent(LOCK_KEY, token, LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(acquired)) return;
+        try {
+            // 하루가 온전히 지난 날짜만 보관하도록 기준 시각을 한국 시간 자정으로 맞춤
+            var cutoff = GlucoseRollupPeriod.DAY.bucketOf(System.currentTimeMillis() - archiveAfterMillis);
+            for (var patientId : glucoseArchiveBulkRepository.findPatientIdsWithReadingsBefore(cutoff)) {
+                // 한 환자의 실패가 나머지 환자의 보관을 막지 않도록 환자 단위로 처리하고, 실패한 환자는 다음 실행에서 다시 시도
+                try {
+                    archivePatient(patientId, cutoff);
+                } catch (RuntimeException exception) {
+                    log.error("혈당 이력 압축 보관에 실패했습니다. patientId={}", patientId, exception);
+                }
+            }
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void archivePatient(Long patientId, Long cutoff) {
+        var oldest = glucoseArchiveBulkRepository.findOldestDateTime(patientId);
+        var days = 0;
+        while (oldest.isPresent() && oldest.get() < cutoff) {
+            archiveGlucoseHistoryDayUseCase.execute(patientId, GlucoseRollupPeriod.DAY.bucketOf(oldest.get()));
+            oldest = glucoseArchiveBulkRepository.findOldestDateTime(patientId);
+            days++;
+        }
+        if (days > 0) {
+            log.info("혈당 이력을 압축 보관했습니다. patientId={}, days={}", patientId, days);
+        }
+    }
+}
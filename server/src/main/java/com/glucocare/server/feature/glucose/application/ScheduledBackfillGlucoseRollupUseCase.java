@@ -0,0 +1,83 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// 집계 테이블 도입 전에 저장된 혈당의 집계(최솟값/최댓값 시각 포함)를 한 번만 채우며, 모든 환자를 마치면 완료 표시를 남기고 더 실행하지 않음
+// 진행한 환자 id 를 Redis 에 남겨, 중단되거나 실패하더라도 다음 실행에서 이어서 진행하고, 기본으로 켜져 있음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "glucose.rollup.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledBackfillGlucoseRollupUseCase {
+    private static final String LOCK_KEY = "glucose:rollup:backfill-lock";
+    private static final String CURSOR_KEY = "glucose:rollup:backfill:cursor";
+    private static final String DONE_KEY = "glucose:rollup:backfill:done";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(10);
+    private static final Integer BATCH_SIZE = 100;
+    private static final Integer MAX_PATIENTS_PER_RUN = 500; // 한 번의 실행이 LOCK_TIMEOUT 안에 끝나도록 제한
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final GlucoseRollupBulkRepository glucoseRollupBulkRepository;
+    private final BackfillGlucoseRollupUseCase backfillGlucoseRollupUseCase;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Scheduled(fixedDelay = 60000)
+    public void execute() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) return;
+        var token = UUID.randomUUID()
+                        .toString();
+        var acquired = redisTemplate.opsForValue()
+                                    .setIfAbsent(LOCK_KEY, token, LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(acquired)) return;
+        try {
+            backfill();
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void backfill() {
+        var cursor = redisTemplate.opsForValue()
+                                  .get(CURSOR_KEY);
+        var lastPatientId = cursor == null ? 0L : Long.parseLong(cursor);
+        var processed = 0;
+        while (processed < MAX_PATIENTS_PER_RUN) {
+            var patientIds = glucoseRollupBulkRepository.findPatientIdsAfter(lastPatientId, BATCH_SIZE);
+            if (patientIds.isEmpty()) {
+                redisTemplate.opsForValue()
+                             .set(DONE_KEY, String.valueOf(System.currentTimeMillis()));
+                log.info("혈당 집계 채우기를 마쳤습니다. lastPatientId={}", lastPatientId);
+                return;
+            }
+            for (var patientId : patientIds) {
+                // 실패한 환자부터 다음 실행에서 다시 시도하도록 진행 위치를 옮기지 않고 멈춤
+                try {
+                    backfillGlucoseRollupUseCase.execute(patientId);
+                } catch (RuntimeException exception) {
+                    log.error("혈당 집계 채우기에 실패했습니다. patientId={}", patientId, exception);
+                    return;
+                }
+                lastPatientId = patientId;
+                redisTemplate.opsForValue()
+                             .set(CURSOR_KEY, String.valueOf(lastPatientId));
+                processed++;
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.infra.GlucoseIngestEntry;
+import com.glucocare.server.feature.glucose.infra.GlucoseIngestQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "glucose.ingest.async.enabled", havingValue = "true")
+public class ScheduledDrainGlucoseIngestUseCase {
+    private static final int BATCH_SIZE = 1000; // 한 번에 꺼내는 업로드 개수
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final Duration RECLAIM_IDLE = Duration.ofMinutes(1);
+    private final GlucoseIngestQueue glucoseIngestQueue;
+    private final DrainGlucoseIngestUseCase drainGlucoseIngestUseCase;
+
+    // 대기열이 빌 때까지(최대 MAX_BATCHES_PER_RUN 번) 업로드를 꺼내 환자별로 저장
+    @Scheduled(fixedDelayString = "${glucose.ingest.drain-interval-millis:1000}")
+    public void execute() {
+        drain(glucoseIngestQueue.reclaim(RECLAIM_IDLE, BATCH_SIZE));
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            var entries = glucoseIngestQueue.poll(BATCH_SIZE);
+            drain(entries);
+            if (entries.size() < BATCH_SIZE) return;
+        }
+    }
+
+    // 배치 전체를 한 번에 커밋하고, 실패한 경우에만 환자마다 따로 다시 시도하여 한 환자의 실패가 나머지의 재전달을 부르지 않도록 함
+    private void drain(List<GlucoseIngestEntry> entries) {
+        if (entries.isEmpty()) return;
+        var entriesByPatient = new TreeMap<Long, List<GlucoseIngestEntry>>();
+        for (var entry : entries) {
+            entriesByPatient.computeIfAbsent(entry.patientId(), patientId -> new ArrayList<>())
+                            .add(entry);
+        }
+        var readingsByPatient = new TreeMap<Long, Map<Long, Integer>>();
+        entriesByPatient.forEach((patientId, patientEntries) -> {
+            // 같은 측정 시각이 중복되면 나중에 업로드된 값이 반영됨
+            var readings = new LinkedHashMap<Long, Integer>();
+            patientEntries.forEach(entry -> readings.putAll(entry.readings()));
+            readingsByPatient.put(patientId, readings);
+        });
+
+        try {
+            drainGlucoseIngestUseCase.execute(readingsByPatient);
+            glucoseIngestQueue.acknowledge(entries.stream()
+                                                  .map(GlucoseIngestEntry::id)
+                                                  .toList());
+            return;
+        } catch (RuntimeException exception) {
+            log.warn("혈당 업로드 배치 저장에 실패하여 환자별로 다시 시도합니다. patients={}, entries={}", entriesByPatient.size(), entries.size(), exception);
+        }
+        drainByPatient(entriesByPatient, readingsByPatient);
+    }
+
+    // 저장한 환자의 업로드는 확인하고, 다른 환자는 저장되는데 실패한 환자의 업로드는 dead-letter 로 옮김
+    // 모든 환자가 실패했다면 DB 장애처럼 일시적인 원인으로 보고 확인하지 않은 채로 두어, RECLAIM_IDLE 이후 다시 시도되도록 함
+    private void drainByPatient(TreeMap<Long, List<GlucoseIngestEntry>> entriesByPatient, TreeMap<Long, Map<Long, Integer>> readingsByPatient) {
+        var acknowledged = new ArrayList<String>();
+        var failed = new ArrayList<GlucoseIngestEntry>();
+        entriesByPatient.forEach((patientId, patientEntries) -> {
+            try {
+                drainGlucoseIngestUseCase.execute(patientId, readingsByPatient.get(patientId));
+            } catch (RuntimeException exception) {
+                log.error("혈당 업로드 저장에 실패했습니다. patientId={}, entries={}", patientId, patientEntries.size(), exception);
+                failed.addAll(patientEntries);
+                return;
+            }
+            patientEntries.forEach(entry -> acknowledged.add(entry.id()));
+        });
+        glucoseIngestQueue.acknowledge(acknowledged);
+        if (!acknowledged.isEmpty()) glucoseIngestQueue.deadLetter(failed);
+    }
+}
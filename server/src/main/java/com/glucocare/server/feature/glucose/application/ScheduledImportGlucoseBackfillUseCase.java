@@ -0,0 +1,80 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseBackfillFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.util.regex.Pattern;
+
+// 운영자가 inbox 디렉터리에 {patientId}_{format}.csv(.gz) 이름으로 넣어 둔 제조사 CSV 를 주기적으로 가져옴
+// 여러 노드가 같은 디렉터리를 공유하더라도 processing 디렉터리로 옮기는 데 성공한 노드만 처리함
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "glucose.backfill.inbox-directory")
+public class ScheduledImportGlucoseBackfillUseCase {
+    private static final Pattern FILE_NAME = Pattern.compile("(\\d+)_([A-Z_]+)\\.csv(\\.gz)?");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final BackfillGlucoseHistoryUseCase backfillGlucoseHistoryUseCase;
+    private final Path inbox;
+
+    public ScheduledImportGlucoseBackfillUseCase(BackfillGlucoseHistoryUseCase backfillGlucoseHistoryUseCase, @Value("${glucose.backfill.inbox-directory}") String inboxDirectory) {
+        this.backfillGlucoseHistoryUseCase = backfillGlucoseHistoryUseCase;
+        this.inbox = Path.of(inboxDirectory);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void execute() throws IOException {
+        try (var files = Files.list(inbox)) {
+            files.filter(Files::isRegularFile)
+                 .forEach(this::importFile);
+        }
+    }
+
+    private void importFile(Path file) {
+        var matcher = FILE_NAME.matcher(file.getFileName()
+                                            .toString());
+        if (!matcher.matches()) return;
+        var processing = claim(file);
+        if (processing == null) return;
+
+        var succeeded = false;
+        try (var inputStream = Files.newInputStream(processing)) {
+            var patientId = Long.parseLong(matcher.group(1));
+            var format = GlucoseBackfillFormat.valueOf(matcher.group(2));
+            backfillGlucoseHistoryUseCase.execute(patientId, format, ZONE, inputStream, matcher.group(3) == null ? null : "gzip");
+            succeeded = true;
+        } catch (IOException | RuntimeException exception) {
+            log.error("혈당 이력 파일을 가져오지 못했습니다. file={}", file.getFileName(), exception);
+        }
+        move(processing, succeeded ? "done" : "failed");
+    }
+
+    private Path claim(Path file) {
+        try {
+            var target = Files.createDirectories(inbox.resolve("processing"))
+                              .resolve(file.getFileName());
+            return Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            return null; // 다른 노드가 먼저 가져간 경우
+        }
+    }
+
+    private void move(Path file, String directory) {
+        try {
+            var target = Files.createDirectories(inbox.resolve(directory))
+                              .resolve(file.getFileName());
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
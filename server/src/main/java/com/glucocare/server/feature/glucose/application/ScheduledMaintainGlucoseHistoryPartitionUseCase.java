@@ -0,0 +1,99 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "glucose.history.partitioning.enabled", havingValue = "true")
+public class ScheduledMaintainGlucoseHistoryPartitionUseCase {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String LOCK_KEY = "glucose:history:partition-lock";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
+    // 락이 만료된 뒤 다른 노드가 잡은 락을 지우지 않도록, 자신이 저장한 토큰일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final GlucoseHistoryPartitionRepository glucoseHistoryPartitionRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Integer monthsAhead;
+    private final Integer retentionMonths;
+    private final Boolean archive;
+
+    public ScheduledMaintainGlucoseHistoryPartitionUseCase(GlucoseHistoryPartitionRepository glucoseHistoryPartitionRepository, RedisTemplate<String, String> redisTemplate, @Value("${glucose.history.partitioning.months-ahead:3}") Integer monthsAhead, @Value("${glucose.history.partitioning.retention-months:0}") Integer retentionMonths, @Value("${glucose.history.partitioning.archive:true}") Boolean archive) {
+        this.glucoseHistoryPartitionRepository = glucoseHistoryPartitionRepository;
+        this.redisTemplate = redisTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archive = archive;
+    }
+
+    // 매일 새벽에 다음 달 파티션을 미리 만들고 보관 기간이 지난 파티션을 정리
+    // 파티션 테이블로의 전환(외래 키 제거 포함)은 기동 시 여러 노드에서 동시에 실행되지 않도록 server/db/glucose_history_partitioning.sql 로 배포 시 한 번 수행
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void execute() {
+        // DDL 이 여러 노드에서 동시에 실행되지 않도록 함
+        var token = UUID.randomUUID()
+                        .toString();
+        var acquired = redisTemplate.opsForValue()
+                                    .setIfAbsent(LOCK_KEY, token, LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(acquired)) return;
+        try {
+            maintain(YearMonth.now(ZONE));
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void maintain(YearMonth current) {
+        var existing = new TreeSet<YearMonth>();
+        glucoseHistoryPartitionRepository.findPartitionNames()
+                                         .stream()
+                                         .map(glucoseHistoryPartitionRepository::monthOf)
+                                         .flatMap(Optional::stream)
+                                         .forEach(existing::add);
+        if (existing.isEmpty()) {
+            log.warn("glucose_history 가 파티션 테이블로 전환되지 않아 파티션 관리를 건너뜁니다. server/db/glucose_history_partitioning.sql 을 먼저 실행해 주세요.");
+            return;
+        }
+
+        var lastMonth = current.plusMonths(monthsAhead);
+        for (var month = existing.last()
+                                 .plusMonths(1); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            glucoseHistoryPartitionRepository.addPartition(month);
+        }
+
+        if (retentionMonths <= 0) return;
+        var cutoff = current.minusMonths(retentionMonths);
+        for (var month : existing.headSet(cutoff)) {
+            if (!archive) {
+                glucoseHistoryPartitionRepository.dropPartition(month);
+                log.info("보관 기간이 지난 혈당 파티션을 삭제했습니다. partition={}", glucoseHistoryPartitionRepository.nameOf(month));
+                continue;
+            }
+            if (glucoseHistoryPartitionRepository.archivePartition(month)) {
+                log.info("보관 기간이 지난 혈당 파티션을 보관했습니다. partition={}", glucoseHistoryPartitionRepository.nameOf(month));
+            } else {
+                log.error("보관 테이블에 이전 데이터가 남아 있어 파티션을 보관하지 않았습니다. partition={}", glucoseHistoryPartitionRepository.nameOf(month));
+            }
+        }
+    }
+}
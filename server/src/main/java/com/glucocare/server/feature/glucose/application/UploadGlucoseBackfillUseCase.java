@@ -0,0 +1,27 @@
+package com.glucocare.server.feature.glucose.application;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseBackfillFormat;
+import com.glucocare.server.feature.glucose.dto.IngestGlucoseHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.ZoneId;
+
+@Service
+@RequiredArgsConstructor
+public class UploadGlucoseBackfillUseCase {
+    private final CareRelationRepository careRelationRepository;
+    private final BackfillGlucoseHistoryUseCase backfillGlucoseHistoryUseCase;
+
+    public IngestGlucoseHistoryResponse execute(Long memberId, Long careRelationId, GlucoseBackfillFormat format, ZoneId zone, InputStream inputStream, String contentEncoding) {
+        var careRelation = careRelationRepository.findById(careRelationId)
+                                                 .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
+        careRelation.validateOwnership(memberId);
+        return backfillGlucoseHistoryUseCase.execute(careRelation.getPatient()
+                                                                 .getId(), format, zone, inputStream, contentEncoding);
+    }
+}
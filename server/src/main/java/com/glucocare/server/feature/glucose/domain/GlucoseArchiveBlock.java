@@ -0,0 +1,45 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.feature.member.domain.Member;
+import com.glucocare.server.shared.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import static jakarta.persistence.FetchType.LAZY;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 보관 기간이 지난 혈당을 환자별 하루(한국 시간) 단위로 GlucoseSeriesCodec 으로 압축해 둔 블록
+@Entity
+@Table(
+        name = "glucose_archive_block",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_glucose_archive_block_patient_day",
+                columnNames = {"patient_id", "day_start"}
+        )
+)
+@Getter
+public class GlucoseArchiveBlock extends BaseEntity {
+    @NotNull
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "patient_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member patient;
+    @NotNull
+    @Column(name = "day_start")
+    private Long dayStart;
+    @NotNull
+    @Column(name = "reading_count")
+    private Integer readingCount;
+    @NotNull
+    @Column(name = "payload", columnDefinition = "BLOB")
+    private byte[] payload;
+
+    protected GlucoseArchiveBlock() {
+    }
+}
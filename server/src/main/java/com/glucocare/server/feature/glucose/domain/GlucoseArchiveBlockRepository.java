@@ -0,0 +1,14 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface GlucoseArchiveBlockRepository extends JpaRepository<GlucoseArchiveBlock, Long> {
+    List<GlucoseArchiveBlock> findAllByPatientIdOrderByDayStartAsc(Long patientId);
+
+    List<GlucoseArchiveBlock> findAllByPatientIdAndDayStartBetweenOrderByDayStartAsc(Long patientId, Long start, Long end);
+
+    List<GlucoseArchiveBlock> findAllByPatientIdAndDayStartBetweenOrderByDayStartDesc(Long patientId, Long start, Long end, Pageable pageable);
+}
@@ -0,0 +1,52 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class GlucoseArchiveBulkRepository {
+
+    private static final String SELECT_PATIENTS_SQL = "SELECT DISTINCT patient_id FROM glucose_history WHERE date_time < ?";
+    private static final String SELECT_OLDEST_SQL = "SELECT MIN(date_time) FROM glucose_history WHERE patient_id = ?";
+    private static final String UPSERT_BLOCK_SQL = """
+                                                   INSERT INTO glucose_archive_block (patient_id, day_start, reading_count, payload, created_at, last_modified_at)
+                                                   VALUES (?, ?, ?, ?, ?, ?)
+                                                   ON DUPLICATE KEY UPDATE
+                                                       reading_count = VALUES(reading_count),
+                                                       payload = VALUES(payload),
+                                                       last_modified_at = VALUES(last_modified_at)
+                                                   """;
+    private static final String DELETE_HOT_SQL = """
+                                                 DELETE FROM glucose_history
+                                                 WHERE patient_id = ?
+                                                 AND date_time >= ?
+                                                 AND date_time < ?
+                                                 """;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findPatientIdsWithReadingsBefore(Long cutoff) {
+        return jdbcTemplate.queryForList(SELECT_PATIENTS_SQL, Long.class, cutoff);
+    }
+
+    public Optional<Long> findOldestDateTime(Long patientId) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(SELECT_OLDEST_SQL, Long.class, patientId));
+    }
+
+    public void upsertBlock(Long patientId, Long dayStart, Integer readingCount, byte[] payload) {
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        jdbcTemplate.update(UPSERT_BLOCK_SQL, patientId, dayStart, readingCount, payload, now, now);
+    }
+
+    public void deleteHotReadings(Long patientId, Long from, Long to) {
+        jdbcTemplate.update(DELETE_HOT_SQL, patientId, from, to);
+    }
+}
@@ -0,0 +1,86 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+// 원본 테이블(glucose_history)과 압축 보관 블록(glucose_archive_block)을 합쳐 최신순으로 조회
+// 같은 측정 시각이 양쪽에 있다면, 보관 이후에 들어온 원본 테이블의 값을 우선함
+@Component
+public class GlucoseArchiveReader {
+    // 구간 조회 시 한 번에 읽어 올 보관 블록 수(일 단위)
+    private static final int BLOCK_BATCH = 7;
+
+    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseArchiveBlockRepository glucoseArchiveBlockRepository;
+    private final Long archiveAfterMillis;
+
+    public GlucoseArchiveReader(GlucoseHistoryRepository glucoseHistoryRepository, GlucoseArchiveBlockRepository glucoseArchiveBlockRepository, @Value("${glucose.history.archive.after-days:90}") Long archiveAfterDays) {
+        this.glucoseHistoryRepository = glucoseHistoryRepository;
+        this.glucoseArchiveBlockRepository = glucoseArchiveBlockRepository;
+        this.archiveAfterMillis = Duration.ofDays(archiveAfterDays)
+                                          .toMillis();
+    }
+
+    public List<ReadGlucoseHistoryResponse> findAllByPatientId(Long patientId) {
+        var hot = glucoseHistoryRepository.findAllByPatientIdAndDateTimeRange(patientId, Long.MIN_VALUE, Long.MAX_VALUE, Pageable.unpaged());
+        var blocks = glucoseArchiveBlockRepository.findAllByPatientIdOrderByDayStartAsc(patientId);
+        if (blocks.isEmpty()) return hot;
+        var readings = readingsOf(hot);
+        blocks.forEach(block -> putArchived(readings, block));
+        return newestFirst(readings, Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    // [from, to) 구간을 최신순으로 최대 limit 건 조회
+    public List<ReadGlucoseHistoryResponse> findRangeByPatientId(Long patientId, long from, long to, int limit) {
+        var pageable = limit == Integer.MAX_VALUE ? Pageable.unpaged() : PageRequest.of(0, limit);
+        var hot = glucoseHistoryRepository.findAllByPatientIdAndDateTimeRange(patientId, from, to, pageable);
+        // 보관 대상 기간보다 최근 구간만 조회한다면 보관 블록이 있을 수 없으므로 원본 테이블만 사용
+        if (from >= System.currentTimeMillis() - archiveAfterMillis) return hot;
+
+        // 보관 블록을 최신 날짜부터 BLOCK_BATCH 개씩 읽고, 이미 읽은 가장 오래된 날짜 이후로 limit 건이 모이면 더 오래된 블록은 읽지 않음
+        var readings = readingsOf(hot);
+        var startDay = GlucoseRollupPeriod.DAY.bucketOf(from);
+        for (var page = 0; ; page++) {
+            var blocks = glucoseArchiveBlockRepository.findAllByPatientIdAndDayStartBetweenOrderByDayStartDesc(patientId, startDay, to - 1, PageRequest.of(page, BLOCK_BATCH));
+            if (blocks.isEmpty()) break;
+            blocks.forEach(block -> putArchived(readings, block));
+            var oldestDay = blocks.get(blocks.size() - 1)
+                                  .getDayStart();
+            if (blocks.size() < BLOCK_BATCH) break;
+            if (readings.subMap(Math.max(from, oldestDay), to)
+                        .size() >= limit) break;
+        }
+        return newestFirst(readings, from, to, limit);
+    }
+
+    private TreeMap<Long, ReadGlucoseHistoryResponse> readingsOf(List<ReadGlucoseHistoryResponse> hot) {
+        var readings = new TreeMap<Long, ReadGlucoseHistoryResponse>();
+        hot.forEach(history -> readings.put(history.dateTime(), history));
+        return readings;
+    }
+
+    // 원본 테이블에 같은 측정 시각이 있다면 원본 테이블의 값을 유지
+    private void putArchived(TreeMap<Long, ReadGlucoseHistoryResponse> readings, GlucoseArchiveBlock block) {
+        GlucoseSeriesCodec.decode(block.getPayload())
+                          .forEach(history -> readings.putIfAbsent(history.dateTime(), history));
+    }
+
+    private List<ReadGlucoseHistoryResponse> newestFirst(TreeMap<Long, ReadGlucoseHistoryResponse> readings, long from, long to, int limit) {
+        var result = new ArrayList<ReadGlucoseHistoryResponse>();
+        for (var history : readings.subMap(from, to)
+                                   .descendingMap()
+                                   .values()) {
+            if (result.size() >= limit) break;
+            result.add(history);
+        }
+        return result;
+    }
+}
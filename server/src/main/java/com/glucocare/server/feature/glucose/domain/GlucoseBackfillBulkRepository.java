@@ -0,0 +1,125 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+@Repository
+@RequiredArgsConstructor
+public class GlucoseBackfillBulkRepository {
+
+    private static final String STAGE_SQL = "INSERT INTO glucose_backfill_staging (batch_id, patient_id, date_time, sgv, created_at, last_modified_at) VALUES ";
+    private static final String STAGE_VALUES_SQL = "(?, ?, ?, ?, ?, ?)";
+    private static final String STAGE_UPSERT_SQL = """
+                                                   ON DUPLICATE KEY UPDATE
+                                                       sgv = VALUES(sgv),
+                                                       last_modified_at = VALUES(last_modified_at)
+                                                   """;
+    private static final String RANGE_SQL = """
+                                            SELECT COUNT(*) AS reading_count, MIN(date_time) AS min_date_time, MAX(date_time) AS max_date_time
+                                            FROM glucose_backfill_staging
+                                            WHERE batch_id = ?
+                                            """;
+    private static final String CHANGED_SQL = """
+                                              FROM glucose_backfill_staging s
+                                              LEFT JOIN glucose_history gh ON gh.patient_id = s.patient_id AND gh.date_time = s.date_time
+                                              WHERE s.batch_id = ?
+                                              AND (gh.id IS NULL OR gh.sgv <> s.sgv)
+                                              """;
+    private static final String MERGE_SQL = """
+                                            INSERT INTO glucose_history (patient_id, date_time, sgv, change_sequence, created_at, last_modified_at)
+                                            SELECT s.patient_id, s.date_time, s.sgv, ? + ROW_NUMBER() OVER (ORDER BY s.date_time) - 1, ?, ?
+                                            """ + CHANGED_SQL + """
+                                            ON DUPLICATE KEY UPDATE
+                                                sgv = VALUES(sgv),
+                                                change_sequence = VALUES(change_sequence),
+                                                last_modified_at = VALUES(last_modified_at)
+                                            """;
+    private static final String SINCE_SQL = """
+                                            SELECT date_time, sgv FROM glucose_backfill_staging
+                                            WHERE batch_id = ?
+                                            AND date_time >= ?
+                                            ORDER BY date_time
+                                            """;
+    private static final String DISCARD_ARCHIVED_SQL = """
+                                                       DELETE s FROM glucose_backfill_staging s
+                                                       JOIN glucose_archive_block b ON b.patient_id = s.patient_id
+                                                           AND s.date_time >= b.day_start
+                                                           AND s.date_time < b.day_start + ?
+                                                       WHERE s.batch_id = ?
+                                                       """;
+    private static final String CLEAR_SQL = "DELETE FROM glucose_backfill_staging WHERE batch_id = ?";
+    private static final int ROWS_PER_STATEMENT = 1000;
+    private static final Long DAY_MILLIS = Duration.ofDays(1)
+                                                   .toMillis();
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final JdbcTemplate jdbcTemplate;
+
+    // 같은 batch 안에서 측정 시각이 중복되면 나중에 읽은 값이 반영됨
+    public void stage(String batchId, Long patientId, Map<Long, Integer> readings) {
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        var rows = new ArrayList<>(readings.entrySet());
+        for (int start = 0; start < rows.size(); start += ROWS_PER_STATEMENT) {
+            var chunk = rows.subList(start, Math.min(start + ROWS_PER_STATEMENT, rows.size()));
+            var values = new StringJoiner(", ");
+            var args = new ArrayList<>(chunk.size() * 6);
+            for (var row : chunk) {
+                values.add(STAGE_VALUES_SQL);
+                args.add(batchId);
+                args.add(patientId);
+                args.add(row.getKey());
+                args.add(row.getValue());
+                args.add(now);
+                args.add(now);
+            }
+            jdbcTemplate.update(STAGE_SQL + values + "\n" + STAGE_UPSERT_SQL, args.toArray());
+        }
+    }
+
+    // 이미 압축 보관된 날의 혈당은 보관 블록을 기준으로 유지하고, 해당 날의 집계가 일부 행만으로 다시 계산되지 않도록 제외
+    public void discardArchivedDays(String batchId) {
+        jdbcTemplate.update(DISCARD_ARCHIVED_SQL, DAY_MILLIS, batchId);
+    }
+
+    public Optional<LongSummaryStatistics> findRange(String batchId) {
+        return jdbcTemplate.query(RANGE_SQL, rs -> {
+            rs.next();
+            var count = rs.getLong("reading_count");
+            if (count == 0) return Optional.empty();
+            return Optional.of(new LongSummaryStatistics(count, rs.getLong("min_date_time"), rs.getLong("max_date_time"), 0));
+        }, batchId);
+    }
+
+    // 기존 행과 같은 값은 제외하고 새로 추가되거나 값이 바뀐 행만 반영하며, 반영한 행 수를 반환
+    // firstSequence 부터 batch 의 행 수만큼 변경 번호가 미리 예약되어 있어야 함
+    public Integer merge(String batchId, Long firstSequence) {
+        var changed = jdbcTemplate.queryForObject("SELECT COUNT(*)\n" + CHANGED_SQL, Integer.class, batchId);
+        if (changed == null || changed == 0) return 0;
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        jdbcTemplate.update(MERGE_SQL, firstSequence, now, now, batchId);
+        return changed;
+    }
+
+    public Map<Long, Integer> findSince(String batchId, Long from) {
+        var readings = new LinkedHashMap<Long, Integer>();
+        jdbcTemplate.query(SINCE_SQL, rs -> {
+            readings.put(rs.getLong("date_time"), rs.getInt("sgv"));
+        }, batchId, from);
+        return readings;
+    }
+
+    public void clear(String batchId) {
+        jdbcTemplate.update(CLEAR_SQL, batchId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.Getter;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// 제조사 앱에서 내보낸 CSV 의 열 이름과 측정 시각 형식
+// 측정 시각은 시간대 없이 기록되므로, 가져올 때 지정한 시간대로 해석함
+@Getter
+public enum GlucoseBackfillFormat {
+    DEXCOM_CLARITY("Timestamp", List.of("Glucose Value (mg/dL)"), "Event Type", Set.of("EGV"), List.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))),
+    LIBRE_VIEW("Device Timestamp", List.of("Historic Glucose mg/dL", "Scan Glucose mg/dL"), "Record Type", Set.of("0", "1"), List.of(DateTimeFormatter.ofPattern("MM-dd-yyyy hh:mm a", Locale.US), DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm"), DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+
+    private final String timestampColumn;
+    private final List<String> glucoseColumns;
+    private final String typeColumn;
+    private final Set<String> acceptedTypes;
+    private final List<DateTimeFormatter> timestampFormats;
+
+    GlucoseBackfillFormat(String timestampColumn, List<String> glucoseColumns, String typeColumn, Set<String> acceptedTypes, List<DateTimeFormatter> timestampFormats) {
+        this.timestampColumn = timestampColumn;
+        this.glucoseColumns = glucoseColumns;
+        this.typeColumn = typeColumn;
+        this.acceptedTypes = acceptedTypes;
+        this.timestampFormats = timestampFormats;
+    }
+}
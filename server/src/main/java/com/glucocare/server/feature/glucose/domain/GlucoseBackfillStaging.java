@@ -0,0 +1,37 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.shared.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+// CSV 가져오기 도중의 혈당을 batch 단위로 모아 두는 임시 테이블로, 병합이 끝나면 batch 단위로 삭제
+@Entity
+@Table(
+        name = "glucose_backfill_staging",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_glucose_backfill_staging_batch_date_time",
+                columnNames = {"batch_id", "date_time"}
+        )
+)
+@Getter
+public class GlucoseBackfillStaging extends BaseEntity {
+    @NotNull
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+    @NotNull
+    @Column(name = "patient_id")
+    private Long patientId;
+    @NotNull
+    @Column(name = "date_time")
+    private Long dateTime;
+    @NotNull
+    @Column(name = "sgv")
+    private Integer sgv;
+
+    protected GlucoseBackfillStaging() {
+    }
+}
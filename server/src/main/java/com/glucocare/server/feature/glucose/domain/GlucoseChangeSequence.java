@@ -0,0 +1,39 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.feature.member.domain.Member;
+import com.glucocare.server.shared.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import static jakarta.persistence.FetchType.LAZY;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 환자별로 마지막에 발급한 혈당 변경 번호이며, GlucoseChangeSequenceBulkRepository 가 혈당 저장 시점에 함께 갱신함
+@Entity
+@Table(
+        name = "glucose_change_sequence",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_glucose_change_sequence_patient",
+                columnNames = {"patient_id"}
+        )
+)
+@Getter
+public class GlucoseChangeSequence extends BaseEntity {
+    @NotNull
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "patient_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member patient;
+    @NotNull
+    @Column(name = "last_sequence")
+    private Long lastSequence;
+
+    protected GlucoseChangeSequence() {
+    }
+}
@@ -0,0 +1,46 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Repository
+@RequiredArgsConstructor
+public class GlucoseChangeSequenceBulkRepository {
+
+    private static final String RESERVE_SQL = """
+                                              INSERT INTO glucose_change_sequence (patient_id, last_sequence, created_at, last_modified_at)
+                                              VALUES (?, ?, ?, ?)
+                                              ON DUPLICATE KEY UPDATE
+                                                  last_sequence = last_sequence + VALUES(last_sequence),
+                                                  last_modified_at = VALUES(last_modified_at)
+                                              """;
+    private static final String LAST_SEQUENCE_SQL = "SELECT last_sequence FROM glucose_change_sequence WHERE patient_id = ?";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final JdbcTemplate jdbcTemplate;
+
+    // 혈당을 쓰기 전에 가장 먼저 호출하여 count 개의 변경 번호를 예약하고, 예약한 첫 번호를 반환
+    // 갱신한 행의 잠금이 커밋까지 유지되므로 같은 환자의 쓰기는 번호 순서대로 커밋되며, 변경 조회가 늦게 커밋된 행을 건너뛰지 않음
+    // 실제로 쓰지 않은 번호는 비어 있어도 됨
+    public Long reserve(Long patientId, Integer count) {
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        jdbcTemplate.update(RESERVE_SQL, patientId, count, now, now);
+        return findLastSequence(patientId) - count + 1;
+    }
+
+    // 번호를 발급하지 않고 환자의 쓰기 잠금만 잡으며, 커밋까지 같은 환자의 다른 쓰기가 기다림
+    public void lock(Long patientId) {
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        jdbcTemplate.update(RESERVE_SQL, patientId, 0, now, now);
+    }
+
+    // 발급한 번호가 없다면 0
+    public Long findLastSequence(Long patientId) {
+        var lastSequence = jdbcTemplate.query(LAST_SEQUENCE_SQL, rs -> rs.next() ? rs.getLong("last_sequence") : 0L, patientId);
+        return lastSequence == null ? 0L : lastSequence;
+    }
+}
@@ -0,0 +1,89 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class GlucoseDownsampler {
+
+    // Largest-Triangle-Three-Buckets : 구간마다 이전 선택점, 다음 구간 평균과 만드는 삼각형이 가장 큰 점을 남겨 급격한 변화(고점/저점)를 보존
+    // histories 는 측정 시각 오름차순이어야 하며, 원본 측정값 중 일부를 그대로 반환함
+    public List<ReadGlucoseHistoryResponse> downsample(List<ReadGlucoseHistoryResponse> histories, int maxPoints) {
+        var size = histories.size();
+        if (maxPoints >= size || maxPoints < 3) return histories;
+
+        var sampled = new ArrayList<ReadGlucoseHistoryResponse>(maxPoints);
+        var bucketSize = (double) (size - 2) / (maxPoints - 2);
+        var selected = 0;
+        sampled.add(histories.getFirst());
+
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            var nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            var nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            var averageX = 0.0;
+            var averageY = 0.0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += histories.get(i)
+                                     .dateTime();
+                averageY += histories.get(i)
+                                     .sgv();
+            }
+            var nextCount = Math.max(nextEnd - nextStart, 1);
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            var start = (int) Math.floor(bucket * bucketSize) + 1;
+            var end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            var anchorX = (double) histories.get(selected)
+                                            .dateTime();
+            var anchorY = (double) histories.get(selected)
+                                            .sgv();
+            var maxArea = -1.0;
+            var candidate = start;
+            for (int i = start; i < end; i++) {
+                var history = histories.get(i);
+                var area = Math.abs((anchorX - averageX) * (history.sgv() - anchorY) - (anchorX - history.dateTime()) * (averageY - anchorY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    candidate = i;
+                }
+            }
+            sampled.add(histories.get(candidate));
+            selected = candidate;
+        }
+
+        sampled.add(histories.getLast());
+        return sampled;
+    }
+
+    // 구간을 maxPoints / 2 개의 묶음으로 나누어 묶음마다 최솟값과 최댓값을 측정 시각 순서대로 남김
+    // 평균으로 합치지 않으므로 한 번뿐인 저혈당/고혈당도 사라지지 않으며, histories 는 측정 시각 오름차순이어야 함
+    public List<ReadGlucoseHistoryResponse> downsampleMinMax(List<ReadGlucoseHistoryResponse> histories, int maxPoints) {
+        var size = histories.size();
+        if (maxPoints >= size || maxPoints < 2) return histories;
+
+        var groups = maxPoints / 2;
+        var sampled = new ArrayList<ReadGlucoseHistoryResponse>(groups * 2);
+        for (int group = 0; group < groups; group++) {
+            var start = (int) ((long) group * size / groups);
+            var end = (int) ((long) (group + 1) * size / groups);
+            if (start >= end) continue;
+            var min = start;
+            var max = start;
+            for (int i = start + 1; i < end; i++) {
+                var sgv = histories.get(i)
+                                   .sgv();
+                if (sgv < histories.get(min)
+                                   .sgv()) min = i;
+                if (sgv > histories.get(max)
+                                   .sgv()) max = i;
+            }
+            sampled.add(histories.get(Math.min(min, max)));
+            if (min != max) sampled.add(histories.get(Math.max(min, max)));
+        }
+        return sampled;
+    }
+}
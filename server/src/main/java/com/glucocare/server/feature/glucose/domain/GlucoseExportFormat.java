@@ -0,0 +1,36 @@
+package com.glucocare.server.feature.glucose.domain;
+
+public enum GlucoseExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    GlucoseExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String header() {
+        return switch (this) {
+            case NDJSON -> "";
+            case CSV -> "id,dateTime,sgv\n";
+        };
+    }
+
+    public String row(long id, long dateTime, int sgv) {
+        return switch (this) {
+            case NDJSON -> "{\"id\":" + id + ",\"dateTime\":" + dateTime + ",\"sgv\":" + sgv + "}\n";
+            case CSV -> id + "," + dateTime + "," + sgv + "\n";
+        };
+    }
+}
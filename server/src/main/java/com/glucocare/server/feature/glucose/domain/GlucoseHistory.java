@@ -3,16 +3,17 @@ package com.glucocare.server.feature.glucose.domain;
 import com.glucocare.server.feature.member.domain.Member;
 import com.glucocare.server.shared.domain.BaseEntity;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import static jakarta.persistence.FetchType.LAZY;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
-import org.hibernate.annotations.OnDelete;
-import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
 @Table(
@@ -20,15 +21,19 @@ import org.hibernate.annotations.OnDeleteAction;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_glucose_history_patient_datetime",
                 columnNames = {"patient_id", "dateTime"}
+        ),
+        indexes = @Index(
+                name = "idx_glucose_history_patient_change",
+                columnList = "patient_id, change_sequence"
         )
 )
 
 @Getter
 public class GlucoseHistory extends BaseEntity {
+    // 파티션 테이블은 외래 키를 가질 수 없으므로 외래 키를 만들지 않으며, 회원 삭제 시 DeleteMemberUseCase 가 직접 삭제
     @NotNull
     @ManyToOne(fetch = LAZY)
-    @JoinColumn(name = "patient_id")
-    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "patient_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Member patient;
     @NotNull
     @Column(name = "sgv")
@@ -36,13 +41,18 @@ public class GlucoseHistory extends BaseEntity {
     @NotNull
     @Column(name = "dateTime")
     private Long dateTime;
+    // 추가되거나 sgv 가 바뀔 때마다 GlucoseChangeSequenceBulkRepository 에서 새로 발급받는 환자별 증가 번호이며, 번호 도입 전의 행은 0
+    @NotNull
+    @Column(name = "change_sequence")
+    private Long changeSequence;
 
     protected GlucoseHistory() {
     }
 
-    public GlucoseHistory(Member patient, Integer sgv, Long dateTime) {
+    public GlucoseHistory(Member patient, Integer sgv, Long dateTime, Long changeSequence) {
         this.patient = patient;
         this.sgv = sgv;
         this.dateTime = dateTime;
+        this.changeSequence = changeSequence;
     }
 }
@@ -0,0 +1,95 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+// 업로드 경로(Dexcom, Health, 비동기 수집)가 함께 사용하는 glucose_history 일괄 저장
+@Repository
+@RequiredArgsConstructor
+public class GlucoseHistoryBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO glucose_history (patient_id, date_time, sgv, change_sequence, created_at, last_modified_at) VALUES ";
+    private static final String VALUES_SQL = "(?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SQL = """
+                                             ON DUPLICATE KEY UPDATE
+                                                 sgv = VALUES(sgv),
+                                                 change_sequence = VALUES(change_sequence),
+                                                 last_modified_at = VALUES(last_modified_at)
+                                             """;
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final JdbcTemplate jdbcTemplate;
+    private final GlucoseRollupBulkRepository glucoseRollupBulkRepository;
+    private final GlucoseChangeSequenceBulkRepository glucoseChangeSequenceBulkRepository;
+
+    // 이미 같은 값으로 저장된 측정값은 last_modified_at 만 바뀌므로 제외하고, 실제로 저장한 측정값을 반환
+    public Map<Long, Integer> upsertBatch(Long patientId, Map<Long, Integer> incomingSgvs) {
+        if (incomingSgvs.isEmpty()) return Map.of();
+        return upsertAll(Map.of(patientId, incomingSgvs)).get(patientId);
+    }
+
+    // 여러 환자의 업로드를 하나의 multi-row upsert 로 묶어 저장하고, 환자별로 실제로 저장한 측정값을 반환
+    // 변경 번호를 환자 id 순서로 가장 먼저 예약하여, 여러 환자를 함께 잠그는 트랜잭션끼리도 잠금 순서가 엇갈리지 않도록 함
+    public Map<Long, Map<Long, Integer>> upsertAll(Map<Long, Map<Long, Integer>> incomingSgvsByPatient) {
+        var changedSgvsByPatient = new TreeMap<Long, Map<Long, Integer>>();
+        var previousSgvsByPatient = new HashMap<Long, Map<Long, Integer>>();
+        var rows = new ArrayList<Object[]>();
+        for (var incoming : new TreeMap<>(incomingSgvsByPatient).entrySet()) {
+            var patientId = incoming.getKey();
+            var incomingSgvs = incoming.getValue();
+            if (incomingSgvs.isEmpty()) {
+                changedSgvsByPatient.put(patientId, Map.of());
+                continue;
+            }
+            var changeSequence = glucoseChangeSequenceBulkRepository.reserve(patientId, incomingSgvs.size());
+            var previousSgvs = glucoseRollupBulkRepository.findCurrentSgvs(patientId, incomingSgvs.keySet());
+            var changedSgvs = new LinkedHashMap<Long, Integer>();
+            incomingSgvs.forEach((dateTime, sgv) -> {
+                if (!sgv.equals(previousSgvs.get(dateTime))) changedSgvs.put(dateTime, sgv);
+            });
+            for (var reading : changedSgvs.entrySet()) {
+                rows.add(new Object[]{patientId, reading.getKey(), reading.getValue(), changeSequence++});
+            }
+            changedSgvsByPatient.put(patientId, changedSgvs);
+            previousSgvsByPatient.put(patientId, previousSgvs);
+        }
+        if (rows.isEmpty()) return changedSgvsByPatient;
+
+        insertRows(rows);
+        changedSgvsByPatient.forEach((patientId, changedSgvs) -> {
+            if (!changedSgvs.isEmpty()) glucoseRollupBulkRepository.apply(patientId, previousSgvsByPatient.get(patientId), changedSgvs);
+        });
+        return changedSgvsByPatient;
+    }
+
+    // 행은 (patient_id, date_time, sgv, change_sequence) 이며, ROWS_PER_STATEMENT 행씩 multi-row upsert 로 저장
+    private void insertRows(ArrayList<Object[]> rows) {
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        for (int start = 0; start < rows.size(); start += ROWS_PER_STATEMENT) {
+            var chunk = rows.subList(start, Math.min(start + ROWS_PER_STATEMENT, rows.size()));
+            var values = new StringJoiner(", ");
+            var args = new ArrayList<>(chunk.size() * 6);
+            for (var row : chunk) {
+                values.add(VALUES_SQL);
+                args.add(row[0]);
+                args.add(row[1]);
+                args.add(row[2]);
+                args.add(row[3]);
+                args.add(now); // created_at (insert 때만 실제 반영)
+                args.add(now); // last_modified_at (insert / update 둘 다 반영)
+            }
+            jdbcTemplate.update(INSERT_SQL + values + "\n" + UPSERT_SQL, args.toArray());
+        }
+    }
+}
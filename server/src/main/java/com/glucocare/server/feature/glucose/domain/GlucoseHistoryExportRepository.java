@@ -0,0 +1,40 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class GlucoseHistoryExportRepository {
+
+    private static final String SELECT_SQL = """
+                                             SELECT id, date_time, sgv FROM glucose_history
+                                             WHERE patient_id = ?
+                                             AND date_time >= ?
+                                             AND date_time < ?
+                                             ORDER BY date_time ASC
+                                             """;
+    private static final String SELECT_ARCHIVED_DAYS_SQL = "SELECT day_start FROM glucose_archive_block WHERE patient_id = ? ORDER BY day_start ASC";
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍하므로, 전체 이력을 메모리에 올리지 않음
+    public void streamByPatientId(Long patientId, Long from, Long to, RowCallbackHandler rowCallbackHandler) {
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, patientId);
+            ps.setLong(2, from);
+            ps.setLong(3, to);
+            return ps;
+        }, rowCallbackHandler);
+    }
+
+    public List<Long> findArchivedDayStarts(Long patientId) {
+        return jdbcTemplate.queryForList(SELECT_ARCHIVED_DAYS_SQL, Long.class, patientId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class GlucoseHistoryPartitionRepository {
+    // 파티션 이름은 p + 한국 시간 기준 연월(pYYYYMM)이며, 마지막에는 항상 비어 있는 p_future(MAXVALUE) 파티션을 둠
+    // 파티션 테이블로의 전환은 server/db/glucose_history_partitioning.sql 로 한 번 수행하며, 이 저장소는 이미 전환된 테이블의 파티션만 관리
+    public static final String FUTURE_PARTITION = "p_future";
+    private static final String PARTITION_PREFIX = "p";
+    private static final String ARCHIVE_TABLE_PREFIX = "glucose_history_archive_";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String SELECT_PARTITIONS_SQL = """
+                                                        SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+                                                        WHERE TABLE_SCHEMA = DATABASE()
+                                                        AND TABLE_NAME = 'glucose_history'
+                                                        AND PARTITION_NAME IS NOT NULL
+                                                        ORDER BY PARTITION_ORDINAL_POSITION
+                                                        """;
+    private static final String TABLE_EXISTS_SQL = """
+                                                   SELECT COUNT(*) FROM information_schema.TABLES
+                                                   WHERE TABLE_SCHEMA = DATABASE()
+                                                   AND TABLE_NAME = ?
+                                                   """;
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class);
+    }
+
+    // p_future 는 항상 비어 있도록 유지하므로, 쪼개더라도 데이터 이동이 없음
+    public void addPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE glucose_history REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" + definitionOf(month) + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)");
+    }
+
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE glucose_history DROP PARTITION " + nameOf(month));
+    }
+
+    // 파티션을 같은 구조의 비어 있는 일반 테이블과 교환(메타데이터만 변경)한 뒤, 비어 있는 파티션을 제거하며 보관 여부를 반환
+    // 이전 실행에서 남은 보관 테이블에 데이터가 있다면 교환 시 그 데이터가 파티션으로 되돌아가므로 교환하지 않음
+    public Boolean archivePartition(YearMonth month) {
+        var partition = nameOf(month);
+        var archiveTable = ARCHIVE_TABLE_PREFIX + partition;
+        if (tableExists(archiveTable)) {
+            if (hasRows(archiveTable)) {
+                // 교환 후 파티션 제거만 실패했던 경우라면 비어 있는 파티션만 마저 제거
+                if (hasRows("glucose_history PARTITION (" + partition + ")")) return false;
+                dropPartition(month);
+                return true;
+            }
+            jdbcTemplate.execute("DROP TABLE " + archiveTable);
+        }
+        jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE glucose_history");
+        jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+        jdbcTemplate.execute("ALTER TABLE glucose_history EXCHANGE PARTITION " + partition + " WITH TABLE " + archiveTable);
+        dropPartition(month);
+        return true;
+    }
+
+    public String nameOf(YearMonth month) {
+        return PARTITION_PREFIX + month.format(NAME_FORMAT);
+    }
+
+    public Optional<YearMonth> monthOf(String partitionName) {
+        if (!partitionName.matches(PARTITION_PREFIX + "\\d{6}")) return Optional.empty();
+        return Optional.of(YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), NAME_FORMAT));
+    }
+
+    private String definitionOf(YearMonth month) {
+        var upperBound = month.plusMonths(1)
+                              .atDay(1)
+                              .atStartOfDay(ZONE)
+                              .toInstant()
+                              .toEpochMilli();
+        return "PARTITION " + nameOf(month) + " VALUES LESS THAN (" + upperBound + ")";
+    }
+
+    private Boolean tableExists(String table) {
+        var count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private Boolean hasRows(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS(SELECT 1 FROM " + table + ")", Boolean.class));
+    }
+}
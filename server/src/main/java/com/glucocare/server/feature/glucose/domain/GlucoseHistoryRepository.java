@@ -1,10 +1,14 @@
 package com.glucocare.server.feature.glucose.domain;
 
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
 import com.glucocare.server.feature.member.domain.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GlucoseHistoryRepository extends JpaRepository<GlucoseHistory, Long> {
@@ -24,5 +28,52 @@ public interface GlucoseHistoryRepository extends JpaRepository<GlucoseHistory,
 
     List<GlucoseHistory> findTop20ByPatientOrderByDateTimeDesc(Member patient);
 
+    @Query(
+            """
+            SELECT gh FROM GlucoseHistory gh
+            WHERE gh.patient.id IN :patientIds
+            AND gh.dateTime >= :from
+            ORDER BY gh.dateTime ASC
+            """
+    )
+    List<GlucoseHistory> findAllByPatientIdInAndDateTimeSince(@Param("patientIds") Collection<Long> patientIds, @Param("from") Long from);
+
     List<GlucoseHistory> findByPatientAndDateTimeBetweenOrderByDateTimeAsc(Member patient, Long start, Long end);
+
+    @Query(
+            """
+            SELECT new com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse(gh.id, gh.dateTime, gh.sgv)
+            FROM GlucoseHistory gh
+            WHERE gh.patient.id = :patientId
+            AND gh.dateTime >= :from
+            AND gh.dateTime < :to
+            ORDER BY gh.dateTime DESC
+            """
+    )
+    List<ReadGlucoseHistoryResponse> findAllByPatientIdAndDateTimeRange(@Param("patientId") Long patientId, @Param("from") Long from, @Param("to") Long to, Pageable pageable);
+
+    @Query(
+            """
+            SELECT gh FROM GlucoseHistory gh
+            WHERE gh.patient.id = :patientId
+            AND gh.changeSequence > :since
+            ORDER BY gh.changeSequence ASC
+            """
+    )
+    List<GlucoseHistory> findAllByPatientIdAndChangeSequenceAfter(@Param("patientId") Long patientId, @Param("since") Long since, Pageable pageable);
+
+    // 변경 번호 도입 전의 행(0)은 id 순서로 이어서 조회
+    @Query(
+            """
+            SELECT gh FROM GlucoseHistory gh
+            WHERE gh.patient.id = :patientId
+            AND ((gh.changeSequence = 0 AND gh.id > :afterId) OR gh.changeSequence > 0)
+            ORDER BY gh.changeSequence ASC, gh.id ASC
+            """
+    )
+    List<GlucoseHistory> findAllByPatientIdAndLegacyIdAfter(@Param("patientId") Long patientId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM GlucoseHistory gh WHERE gh.patient.id = :patientId")
+    void deleteAllByPatientId(@Param("patientId") Long patientId);
 }
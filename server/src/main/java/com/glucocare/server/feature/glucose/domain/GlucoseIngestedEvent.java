@@ -0,0 +1,10 @@
+package com.glucocare.server.feature.glucose.domain;
+
+// 혈당이 새로 저장(또는 값이 바뀜)된 환자를 알리는 이벤트이며, 트랜잭션이 커밋된 뒤에 처리됨
+public record GlucoseIngestedEvent(
+        Long patientId
+) {
+    public static GlucoseIngestedEvent of(Long patientId) {
+        return new GlucoseIngestedEvent(patientId);
+    }
+}
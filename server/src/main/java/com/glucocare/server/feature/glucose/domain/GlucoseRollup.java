@@ -0,0 +1,86 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.feature.member.domain.Member;
+import com.glucocare.server.shared.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import static jakarta.persistence.FetchType.LAZY;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 환자별 시간/일 단위 혈당 집계이며, GlucoseRollupBulkRepository 가 혈당 저장 시점에 함께 갱신함
+@Entity
+@Table(
+        name = "glucose_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_glucose_rollup_patient_period_bucket",
+                columnNames = {"patient_id", "period", "bucket_start"}
+        )
+)
+@Getter
+public class GlucoseRollup extends BaseEntity {
+    @NotNull
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "patient_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member patient;
+    @NotNull
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "period")
+    private GlucoseRollupPeriod period;
+    @NotNull
+    @Column(name = "bucket_start")
+    private Long bucketStart;
+    @NotNull
+    @Column(name = "reading_count")
+    private Integer readingCount;
+    @NotNull
+    @Column(name = "sgv_sum")
+    private Long sgvSum;
+    @NotNull
+    @Column(name = "sgv_square_sum")
+    private Long sgvSquareSum;
+    @NotNull
+    @Column(name = "min_sgv")
+    private Integer minSgv;
+    @NotNull
+    @Column(name = "max_sgv")
+    private Integer maxSgv;
+    // 최솟값/최댓값이 처음 측정된 시각이며, 컬럼 추가 전에 만들어진 집계는 다시 계산되기 전까지 비어 있을 수 있음
+    @Column(name = "min_date_time")
+    private Long minDateTime;
+    @Column(name = "max_date_time")
+    private Long maxDateTime;
+    @NotNull
+    @Column(name = "in_range_count")
+    private Integer inRangeCount;
+    @NotNull
+    @Column(name = "hypo_count")
+    private Integer hypoCount;
+    @NotNull
+    @Column(name = "hyper_count")
+    private Integer hyperCount;
+
+    protected GlucoseRollup() {
+    }
+
+    public Double getMean() {
+        return GlucoseRollupAggregate.meanOf(readingCount, sgvSum);
+    }
+
+    public Double getStandardDeviation() {
+        return GlucoseRollupAggregate.standardDeviationOf(readingCount, sgvSum, sgvSquareSum);
+    }
+
+    public Double getTimeInRange() {
+        return GlucoseRollupAggregate.timeInRangeOf(readingCount, inRangeCount);
+    }
+}
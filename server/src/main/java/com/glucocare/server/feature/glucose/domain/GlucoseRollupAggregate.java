@@ -0,0 +1,67 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// 하나의 집계 구간에 더해지는 측정값의 합계이며, 평균/표준편차/TIR 계산은 저장된 GlucoseRollup 과 같은 식을 사용
+@Getter
+public class GlucoseRollupAggregate {
+    public static final int HYPO = 70; // 저혈당 기준
+    public static final int HYPER = 180; // 고혈당 기준
+
+    private int count;
+    private long sum;
+    private long squareSum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    private long minDateTime; // 최솟값이 처음 측정된 시각
+    private long maxDateTime; // 최댓값이 처음 측정된 시각
+    private int inRange;
+    private int hypo;
+    private int hyper;
+
+    public void add(long dateTime, int sgv) {
+        count++;
+        sum += sgv;
+        squareSum += (long) sgv * sgv;
+        if (sgv < min || (sgv == min && dateTime < minDateTime)) {
+            min = sgv;
+            minDateTime = dateTime;
+        }
+        if (sgv > max || (sgv == max && dateTime < maxDateTime)) {
+            max = sgv;
+            maxDateTime = dateTime;
+        }
+        if (sgv < HYPO) hypo++;
+        else if (sgv > HYPER) hyper++;
+        else inRange++;
+    }
+
+    // 측정 시각별 sgv 를 구간 시작 시각별 합계로 묶음
+    public static TreeMap<Long, GlucoseRollupAggregate> byBucket(GlucoseRollupPeriod period, Map<Long, Integer> readings) {
+        var aggregates = new TreeMap<Long, GlucoseRollupAggregate>();
+        readings.forEach((dateTime, sgv) -> aggregates.computeIfAbsent(period.bucketOf(dateTime), bucket -> new GlucoseRollupAggregate())
+                                                      .add(dateTime, sgv));
+        return aggregates;
+    }
+
+    public static double meanOf(long count, long sum) {
+        if (count == 0) return 0.0;
+        return (double) sum / count;
+    }
+
+    // 제곱합으로 구한 분산은 부동소수 오차로 음수가 될 수 있으므로 0 으로 보정
+    public static double standardDeviationOf(long count, long sum, long squareSum) {
+        if (count == 0) return 0.0;
+        var mean = meanOf(count, sum);
+        var variance = (double) squareSum / count - mean * mean;
+        return Math.sqrt(Math.max(variance, 0.0));
+    }
+
+    public static double timeInRangeOf(long count, long inRange) {
+        if (count == 0) return 0.0;
+        return inRange * 100.0 / count;
+    }
+}
@@ -0,0 +1,248 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+@Repository
+@RequiredArgsConstructor
+public class GlucoseRollupBulkRepository {
+
+    private static final String SELECT_CURRENT_SQL = """
+                                                     SELECT date_time, sgv FROM glucose_history
+                                                     WHERE patient_id = ?
+                                                     AND date_time BETWEEN ? AND ?
+                                                     FOR UPDATE
+                                                     """;
+    // ON DUPLICATE KEY UPDATE 는 앞에서부터 차례로 반영되므로, 최솟값/최댓값 시각을 값보다 먼저 갱신해야 이전 값과 비교됨
+    private static final String ADD_SQL = """
+                                          INSERT INTO glucose_rollup (patient_id, period, bucket_start, reading_count, sgv_sum, sgv_square_sum, min_sgv, max_sgv, min_date_time, max_date_time, in_range_count, hypo_count, hyper_count, created_at, last_modified_at)
+                                          VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                                          ON DUPLICATE KEY UPDATE
+                                              reading_count = reading_count + VALUES(reading_count),
+                                              sgv_sum = sgv_sum + VALUES(sgv_sum),
+                                              sgv_square_sum = sgv_square_sum + VALUES(sgv_square_sum),
+                                              min_date_time = IF(VALUES(min_sgv) < min_sgv, VALUES(min_date_time), min_date_time),
+                                              max_date_time = IF(VALUES(max_sgv) > max_sgv, VALUES(max_date_time), max_date_time),
+                                              min_sgv = LEAST(min_sgv, VALUES(min_sgv)),
+                                              max_sgv = GREATEST(max_sgv, VALUES(max_sgv)),
+                                              in_range_count = in_range_count + VALUES(in_range_count),
+                                              hypo_count = hypo_count + VALUES(hypo_count),
+                                              hyper_count = hyper_count + VALUES(hyper_count),
+                                              last_modified_at = VALUES(last_modified_at)
+                                          """;
+    private static final String SET_SQL = """
+                                          INSERT INTO glucose_rollup (patient_id, period, bucket_start, reading_count, sgv_sum, sgv_square_sum, min_sgv, max_sgv, min_date_time, max_date_time, in_range_count, hypo_count, hyper_count, created_at, last_modified_at)
+                                          VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                                          ON DUPLICATE KEY UPDATE
+                                              reading_count = VALUES(reading_count),
+                                              sgv_sum = VALUES(sgv_sum),
+                                              sgv_square_sum = VALUES(sgv_square_sum),
+                                              min_sgv = VALUES(min_sgv),
+                                              max_sgv = VALUES(max_sgv),
+                                              min_date_time = VALUES(min_date_time),
+                                              max_date_time = VALUES(max_date_time),
+                                              in_range_count = VALUES(in_range_count),
+                                              hypo_count = VALUES(hypo_count),
+                                              hyper_count = VALUES(hyper_count),
+                                              last_modified_at = VALUES(last_modified_at)
+                                          """;
+    private static final String SELECT_HOT_SQL = """
+                                                 SELECT date_time, sgv FROM glucose_history
+                                                 WHERE patient_id = ?
+                                                 AND date_time >= ?
+                                                 AND date_time < ?
+                                                 """;
+    private static final String SELECT_ARCHIVED_SQL = """
+                                                      SELECT payload FROM glucose_archive_block
+                                                      WHERE patient_id = ?
+                                                      AND day_start >= ?
+                                                      AND day_start < ?
+                                                      """;
+    private static final String SELECT_OLDEST_HOT_SQL = "SELECT MIN(date_time) FROM glucose_history WHERE patient_id = ?";
+    private static final String SELECT_OLDEST_ARCHIVED_SQL = "SELECT MIN(day_start) FROM glucose_archive_block WHERE patient_id = ?";
+    private static final String SELECT_PATIENTS_SQL = """
+                                                      SELECT patient_id FROM (
+                                                          SELECT DISTINCT patient_id FROM glucose_history WHERE patient_id > ?
+                                                          UNION
+                                                          SELECT DISTINCT patient_id FROM glucose_archive_block WHERE patient_id > ?
+                                                      ) patients
+                                                      ORDER BY patient_id
+                                                      LIMIT ?
+                                                      """;
+    private static final int RECOMPUTE_WINDOW_DAYS = 31; // 전체 기간을 다시 계산할 때 한 번에 읽는 일 수
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final JdbcTemplate jdbcTemplate;
+
+    // 원본 테이블이나 압축 보관 블록에 혈당이 있는 환자를 id 순서로 afterPatientId 다음부터 최대 limit 명 조회
+    public List<Long> findPatientIdsAfter(Long afterPatientId, Integer limit) {
+        return jdbcTemplate.queryForList(SELECT_PATIENTS_SQL, Long.class, afterPatientId, afterPatientId, limit);
+    }
+
+    // 압축 보관된 날을 포함하여 가장 오래된 측정 시각(보관 블록은 그 날의 시작 시각)을 반환
+    public Optional<Long> findOldestDateTime(Long patientId) {
+        var hot = Optional.ofNullable(jdbcTemplate.queryForObject(SELECT_OLDEST_HOT_SQL, Long.class, patientId));
+        var archived = Optional.ofNullable(jdbcTemplate.queryForObject(SELECT_OLDEST_ARCHIVED_SQL, Long.class, patientId));
+        if (hot.isEmpty()) return archived;
+        if (archived.isEmpty()) return hot;
+        return Optional.of(Math.min(hot.get(), archived.get()));
+    }
+
+    // upsert 전에 호출하여, 이번 요청으로 덮어쓰게 될 기존 측정값을 잠그고 조회
+    // 원본 테이블에 없는 측정 시각은 압축 보관 블록에서 찾아, 보관된 측정값을 덮어쓸 때 새 측정값으로 집계에 더하지 않도록 함
+    public Map<Long, Integer> findCurrentSgvs(Long patientId, Collection<Long> dateTimes) {
+        var currentSgvs = new HashMap<Long, Integer>();
+        if (dateTimes.isEmpty()) return currentSgvs;
+        var range = dateTimes.stream()
+                             .mapToLong(Long::longValue)
+                             .summaryStatistics();
+        jdbcTemplate.query(SELECT_CURRENT_SQL, rs -> {
+            var dateTime = rs.getLong("date_time");
+            if (dateTimes.contains(dateTime)) {
+                currentSgvs.put(dateTime, rs.getInt("sgv"));
+            }
+        }, patientId, range.getMin(), range.getMax());
+
+        var missing = dateTimes.stream()
+                               .filter(dateTime -> !currentSgvs.containsKey(dateTime))
+                               .mapToLong(Long::longValue)
+                               .summaryStatistics();
+        if (missing.getCount() == 0) return currentSgvs;
+        var archived = findArchivedSgvs(patientId, missing.getMin(), missing.getMax() + 1);
+        for (var dateTime : dateTimes) {
+            var sgv = archived.get(dateTime);
+            if (sgv != null) currentSgvs.putIfAbsent(dateTime, sgv);
+        }
+        return currentSgvs;
+    }
+
+    // upsert 후에 호출하며, 새로 추가된 측정값은 집계에 더하고 값이 바뀐 측정값이 있는 구간은 원본으로부터 다시 계산
+    // (덮어쓴 값이 최솟값/최댓값이었을 수 있으므로 차감만으로는 정확하게 갱신할 수 없음)
+    public void apply(Long patientId, Map<Long, Integer> previousSgvs, Map<Long, Integer> incomingSgvs) {
+        for (var period : GlucoseRollupPeriod.values()) {
+            var additions = new TreeMap<Long, GlucoseRollupAggregate>();
+            var recomputes = new TreeSet<Long>();
+            for (var incoming : incomingSgvs.entrySet()) {
+                var bucket = period.bucketOf(incoming.getKey());
+                var previous = previousSgvs.get(incoming.getKey());
+                if (previous == null) {
+                    additions.computeIfAbsent(bucket, key -> new GlucoseRollupAggregate())
+                             .add(incoming.getKey(), incoming.getValue());
+                } else if (!previous.equals(incoming.getValue())) {
+                    recomputes.add(bucket);
+                }
+            }
+            additions.keySet()
+                     .removeAll(recomputes);
+            addBuckets(patientId, period, additions);
+            recomputeBuckets(patientId, period, recomputes);
+        }
+    }
+
+    // [from, to] 를 포함하는 날짜의 집계를 원본 테이블과 압축 보관 블록으로부터 다시 계산
+    // 일 단위 경계로 나누어 읽으므로 시간/일 집계 구간이 두 번에 걸쳐 계산되지 않음
+    public void recompute(Long patientId, Long from, Long to) {
+        var end = GlucoseRollupPeriod.DAY.nextBucketOf(GlucoseRollupPeriod.DAY.bucketOf(to));
+        var windowStart = GlucoseRollupPeriod.DAY.bucketOf(from);
+        while (windowStart < end) {
+            var windowEnd = windowStart;
+            for (int day = 0; day < RECOMPUTE_WINDOW_DAYS && windowEnd < end; day++) {
+                windowEnd = GlucoseRollupPeriod.DAY.nextBucketOf(windowEnd);
+            }
+            var readings = findReadings(patientId, windowStart, windowEnd);
+            for (var period : GlucoseRollupPeriod.values()) {
+                setBuckets(patientId, period, GlucoseRollupAggregate.byBucket(period, readings));
+            }
+            windowStart = windowEnd;
+        }
+    }
+
+    private void addBuckets(Long patientId, GlucoseRollupPeriod period, TreeMap<Long, GlucoseRollupAggregate> additions) {
+        if (additions.isEmpty()) return;
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        jdbcTemplate.batchUpdate(ADD_SQL, new ArrayList<>(additions.entrySet()), 500, (ps, entry) -> {
+            var aggregate = entry.getValue();
+            ps.setLong(1, patientId);
+            ps.setString(2, period.name());
+            ps.setLong(3, entry.getKey());
+            ps.setInt(4, aggregate.getCount());
+            ps.setLong(5, aggregate.getSum());
+            ps.setLong(6, aggregate.getSquareSum());
+            ps.setInt(7, aggregate.getMin());
+            ps.setInt(8, aggregate.getMax());
+            ps.setLong(9, aggregate.getMinDateTime());
+            ps.setLong(10, aggregate.getMaxDateTime());
+            ps.setInt(11, aggregate.getInRange());
+            ps.setInt(12, aggregate.getHypo());
+            ps.setInt(13, aggregate.getHyper());
+            ps.setTimestamp(14, now);
+            ps.setTimestamp(15, now);
+        });
+    }
+
+    private void recomputeBuckets(Long patientId, GlucoseRollupPeriod period, TreeSet<Long> buckets) {
+        var aggregates = new TreeMap<Long, GlucoseRollupAggregate>();
+        for (var bucket : buckets) {
+            aggregates.putAll(GlucoseRollupAggregate.byBucket(period, findReadings(patientId, bucket, period.nextBucketOf(bucket))));
+        }
+        setBuckets(patientId, period, aggregates);
+    }
+
+    // 측정값이 하나도 없는 구간은 기존 집계를 그대로 둠
+    private void setBuckets(Long patientId, GlucoseRollupPeriod period, TreeMap<Long, GlucoseRollupAggregate> aggregates) {
+        if (aggregates.isEmpty()) return;
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        jdbcTemplate.batchUpdate(SET_SQL, new ArrayList<>(aggregates.entrySet()), 500, (ps, entry) -> {
+            var aggregate = entry.getValue();
+            ps.setLong(1, patientId);
+            ps.setString(2, period.name());
+            ps.setLong(3, entry.getKey());
+            ps.setInt(4, aggregate.getCount());
+            ps.setLong(5, aggregate.getSum());
+            ps.setLong(6, aggregate.getSquareSum());
+            ps.setInt(7, aggregate.getMin());
+            ps.setInt(8, aggregate.getMax());
+            ps.setLong(9, aggregate.getMinDateTime());
+            ps.setLong(10, aggregate.getMaxDateTime());
+            ps.setInt(11, aggregate.getInRange());
+            ps.setInt(12, aggregate.getHypo());
+            ps.setInt(13, aggregate.getHyper());
+            ps.setTimestamp(14, now);
+            ps.setTimestamp(15, now);
+        });
+    }
+
+    // [from, to) 의 측정값을 압축 보관 블록과 원본 테이블에서 읽으며, 같은 측정 시각은 보관 이후에 들어온 원본 테이블의 값을 우선함
+    // 집계를 다시 계산하는 호출자는 변경 번호 예약으로 환자의 쓰기 잠금을 먼저 잡고 있어야 함
+    private TreeMap<Long, Integer> findReadings(Long patientId, long from, long to) {
+        var readings = findArchivedSgvs(patientId, from, to);
+        jdbcTemplate.query(SELECT_HOT_SQL, rs -> {
+            readings.put(rs.getLong("date_time"), rs.getInt("sgv"));
+        }, patientId, from, to);
+        return readings;
+    }
+
+    private TreeMap<Long, Integer> findArchivedSgvs(Long patientId, long from, long to) {
+        var readings = new TreeMap<Long, Integer>();
+        jdbcTemplate.query(SELECT_ARCHIVED_SQL, rs -> {
+            for (var history : GlucoseSeriesCodec.decode(rs.getBytes("payload"))) {
+                if (history.dateTime() >= from && history.dateTime() < to) {
+                    readings.put(history.dateTime(), history.sgv());
+                }
+            }
+        }, patientId, GlucoseRollupPeriod.DAY.bucketOf(from), to);
+        return readings;
+    }
+}
@@ -0,0 +1,38 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+public enum GlucoseRollupPeriod {
+    HOUR,
+    DAY;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Long HOUR_MILLIS = Duration.ofHours(1)
+                                                    .toMillis();
+
+    // 일 단위 집계는 한국 시간 자정을 기준으로 나눔
+    public long bucketOf(long dateTime) {
+        return switch (this) {
+            case HOUR -> dateTime - Math.floorMod(dateTime, HOUR_MILLIS);
+            case DAY -> Instant.ofEpochMilli(dateTime)
+                               .atZone(ZONE)
+                               .toLocalDate()
+                               .atStartOfDay(ZONE)
+                               .toInstant()
+                               .toEpochMilli();
+        };
+    }
+
+    public long nextBucketOf(long bucketStart) {
+        return switch (this) {
+            case HOUR -> bucketStart + HOUR_MILLIS;
+            case DAY -> Instant.ofEpochMilli(bucketStart)
+                               .atZone(ZONE)
+                               .plusDays(1)
+                               .toInstant()
+                               .toEpochMilli();
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface GlucoseRollupRepository extends JpaRepository<GlucoseRollup, Long> {
+    List<GlucoseRollup> findAllByPatientIdAndPeriodAndBucketStartBetweenOrderByBucketStartAsc(Long patientId, GlucoseRollupPeriod period, Long start, Long end);
+}
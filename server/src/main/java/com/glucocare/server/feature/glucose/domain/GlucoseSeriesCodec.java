@@ -0,0 +1,155 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public final class GlucoseSeriesCodec {
+    private static final byte VERSION_RAW_SGV = 1;
+    private static final byte VERSION = 2;
+    // 측정값 하나는 어느 형식이든 최소 3byte(측정 시각, id, sgv 각각 1byte 이상)를 차지
+    private static final int MIN_BYTES_PER_READING = 3;
+
+    private GlucoseSeriesCodec() {
+    }
+
+    // v1 형식 : [version][count]([base dateTime][base id][dateTime delta-of-delta...][id delta...][sgv 2byte...])
+    // v2 형식 : v1 과 같으나 sgv 를 [base sgv][sgv delta...] 로 저장
+    // count, delta 값은 zigzag varint 이며, 5분 간격 측정에서는 대부분 1byte 로 표현됨
+    public static byte[] encode(List<ReadGlucoseHistoryResponse> histories) {
+        var sorted = histories.stream()
+                              .sorted(Comparator.comparing(ReadGlucoseHistoryResponse::dateTime))
+                              .toList();
+        var out = new ByteArrayOutputStream(8 + sorted.size() * 4);
+        out.write(VERSION);
+        writeVarLong(out, sorted.size());
+        if (sorted.isEmpty()) return out.toByteArray();
+
+        var first = sorted.getFirst();
+        writeVarLong(out, zigzag(first.dateTime()));
+        writeVarLong(out, zigzag(first.id()));
+
+        var previousDateTime = first.dateTime();
+        var previousDelta = 0L;
+        for (int i = 1; i < sorted.size(); i++) {
+            var dateTime = sorted.get(i)
+                                 .dateTime();
+            var delta = dateTime - previousDateTime;
+            writeVarLong(out, zigzag(delta - previousDelta));
+            previousDateTime = dateTime;
+            previousDelta = delta;
+        }
+
+        var previousId = first.id();
+        for (int i = 1; i < sorted.size(); i++) {
+            var id = sorted.get(i)
+                           .id();
+            writeVarLong(out, zigzag(id - previousId));
+            previousId = id;
+        }
+
+        var previousSgv = 0;
+        for (var history : sorted) {
+            writeVarLong(out, zigzag(history.sgv() - previousSgv));
+            previousSgv = history.sgv();
+        }
+        return out.toByteArray();
+    }
+
+    // 측정 시각 오름차순으로 복원하며, 손상된 값은 모두 ApplicationException 으로 거절
+    public static List<ReadGlucoseHistoryResponse> decode(byte[] bytes) {
+        try {
+            var in = new Reader(bytes);
+            var version = in.readByte();
+            if (version != VERSION && version != VERSION_RAW_SGV) {
+                throw new ApplicationException(ErrorMessage.INVALID_CONVERT_REQUEST);
+            }
+            // 남은 바이트로 담을 수 없는 개수라면 배열을 만들기 전에 거절하여, 음수나 지나치게 큰 개수로 인한 오류를 막음
+            var encodedCount = in.readVarLong();
+            if (encodedCount < 0 || encodedCount > in.remaining() / MIN_BYTES_PER_READING) {
+                throw new ApplicationException(ErrorMessage.INVALID_CONVERT_REQUEST);
+            }
+            var count = (int) encodedCount;
+            if (count == 0) return List.of();
+
+            var dateTimes = new long[count];
+            var ids = new long[count];
+            dateTimes[0] = unzigzag(in.readVarLong());
+            ids[0] = unzigzag(in.readVarLong());
+
+            var delta = 0L;
+            for (int i = 1; i < count; i++) {
+                delta += unzigzag(in.readVarLong());
+                dateTimes[i] = dateTimes[i - 1] + delta;
+            }
+            for (int i = 1; i < count; i++) {
+                ids[i] = ids[i - 1] + unzigzag(in.readVarLong());
+            }
+
+            var histories = new ArrayList<ReadGlucoseHistoryResponse>(count);
+            var sgv = 0;
+            for (int i = 0; i < count; i++) {
+                if (version == VERSION_RAW_SGV) {
+                    sgv = (in.readByte() & 0xFF) << 8 | (in.readByte() & 0xFF);
+                } else {
+                    sgv += (int) unzigzag(in.readVarLong());
+                }
+                histories.add(ReadGlucoseHistoryResponse.of(ids[i], dateTimes[i], sgv));
+            }
+            return histories;
+        } catch (ArrayIndexOutOfBoundsException exception) {
+            throw new ApplicationException(ErrorMessage.INVALID_CONVERT_REQUEST);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private byte readByte() {
+            return bytes[position++];
+        }
+
+        private int remaining() {
+            return bytes.length - position;
+        }
+
+        // 10byte 를 넘는 varint 는 long 으로 표현할 수 없으므로 손상된 값으로 봄
+        private long readVarLong() {
+            var result = 0L;
+            var shift = 0;
+            while (true) {
+                if (shift > 63) throw new ApplicationException(ErrorMessage.INVALID_CONVERT_REQUEST);
+                var b = bytes[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return result;
+                shift += 7;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import lombok.Getter;
+
+// Dexcom/Nightscout 의 추세 화살표와 같은 구분이며, 분당 변화량(mg/dL/min) 기준으로 나눔
+@Getter
+public enum GlucoseTrend {
+    DOUBLE_UP("DoubleUp"),
+    SINGLE_UP("SingleUp"),
+    FORTY_FIVE_UP("FortyFiveUp"),
+    FLAT("Flat"),
+    FORTY_FIVE_DOWN("FortyFiveDown"),
+    SINGLE_DOWN("SingleDown"),
+    DOUBLE_DOWN("DoubleDown"),
+    NONE("NONE");
+
+    private static final long MIN_INTERVAL_MILLIS = 4 * 60_000L;
+    private static final long MAX_INTERVAL_MILLIS = 20 * 60_000L;
+    private static final long TARGET_INTERVAL_MILLIS = 15 * 60_000L;
+    private final String direction;
+
+    GlucoseTrend(String direction) {
+        this.direction = direction;
+    }
+
+    // 최신 혈당과 약 15분 전(4~20분 사이) 혈당의 기울기로 판단하며, 비교할 혈당이 없으면 NONE
+    public static GlucoseTrend from(GlucoseWindow window) {
+        if (window.size() < 2) return NONE;
+        var last = window.size() - 1;
+        var latestDateTime = window.dateTimeAt(last);
+        var reference = -1;
+        for (int i = last - 1; i >= 0; i--) {
+            var interval = latestDateTime - window.dateTimeAt(i);
+            if (interval > MAX_INTERVAL_MILLIS) break;
+            if (interval < MIN_INTERVAL_MILLIS) continue;
+            reference = i;
+            if (interval >= TARGET_INTERVAL_MILLIS) break;
+        }
+        if (reference < 0) return NONE;
+
+        var minutes = (latestDateTime - window.dateTimeAt(reference)) / 60_000.0;
+        return fromRate((window.sgvAt(last) - window.sgvAt(reference)) / minutes);
+    }
+
+    public static GlucoseTrend fromRate(double ratePerMinute) {
+        if (ratePerMinute > 3) return DOUBLE_UP;
+        if (ratePerMinute > 2) return SINGLE_UP;
+        if (ratePerMinute > 1) return FORTY_FIVE_UP;
+        if (ratePerMinute >= -1) return FLAT;
+        if (ratePerMinute >= -2) return FORTY_FIVE_DOWN;
+        if (ratePerMinute >= -3) return SINGLE_DOWN;
+        return DOUBLE_DOWN;
+    }
+}
@@ -0,0 +1,102 @@
+package com.glucocare.server.feature.glucose.domain;
+
+// 최근 혈당을 측정 시각 오름차순의 원시 배열로 들고 있는 읽기 전용 구간
+// 부분 구간(since, latest)은 같은 배열을 공유하므로 추가 할당이 없음
+public final class GlucoseWindow {
+    private static final GlucoseWindow EMPTY = new GlucoseWindow(new long[0], new short[0], 0, 0);
+    private final long[] dateTimes;
+    private final short[] sgvs;
+    private final int offset;
+    private final int size;
+
+    GlucoseWindow(long[] dateTimes, short[] sgvs, int offset, int size) {
+        this.dateTimes = dateTimes;
+        this.sgvs = sgvs;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    public static GlucoseWindow of(long[] dateTimes, short[] sgvs, int size) {
+        return new GlucoseWindow(dateTimes, sgvs, 0, size);
+    }
+
+    public static GlucoseWindow empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long dateTimeAt(int index) {
+        return dateTimes[offset + index];
+    }
+
+    public int sgvAt(int index) {
+        return sgvs[offset + index];
+    }
+
+    // from 이후(포함)의 혈당만 남긴 구간
+    public GlucoseWindow since(long from) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (dateTimeAt(mid) < from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return new GlucoseWindow(dateTimes, sgvs, offset + low, size - low);
+    }
+
+    // [from, to) 구간
+    public GlucoseWindow between(long from, long to) {
+        var window = since(from);
+        var count = 0;
+        while (count < window.size && window.dateTimeAt(count) < to) {
+            count++;
+        }
+        return new GlucoseWindow(dateTimes, sgvs, window.offset, count);
+    }
+
+    // 가장 최근 count 건
+    public GlucoseWindow latest(int count) {
+        var length = Math.min(count, size);
+        return new GlucoseWindow(dateTimes, sgvs, offset + size - length, length);
+    }
+
+    public int countBetween(int minSgv, int maxSgv) {
+        var count = 0;
+        for (int i = 0; i < size; i++) {
+            var sgv = sgvAt(i);
+            if (sgv >= minSgv && sgv <= maxSgv) count++;
+        }
+        return count;
+    }
+
+    public double mean() {
+        if (size == 0) return 0.0;
+        var sum = 0L;
+        for (int i = 0; i < size; i++) {
+            sum += sgvAt(i);
+        }
+        return (double) sum / size;
+    }
+
+    public double standardDeviation() {
+        if (size == 0) return 0.0;
+        var mean = mean();
+        var sum = 0.0;
+        for (int i = 0; i < size; i++) {
+            var diff = sgvAt(i) - mean;
+            sum += diff * diff;
+        }
+        return Math.sqrt(sum / size);
+    }
+}
@@ -0,0 +1,10 @@
+package com.glucocare.server.feature.glucose.dto;
+
+public record IngestGlucoseHistoryResponse(
+        Integer receivedCount,
+        Integer skippedCount
+) {
+    public static IngestGlucoseHistoryResponse of(Integer receivedCount, Integer skippedCount) {
+        return new IngestGlucoseHistoryResponse(receivedCount, skippedCount);
+    }
+}
@@ -0,0 +1,17 @@
+package com.glucocare.server.feature.glucose.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Nightscout 의 entries 응답 형식(type 은 항상 sgv)
+public record NightscoutEntryResponse(
+        @JsonProperty("_id") String id,
+        String type,
+        Integer sgv,
+        Long date,
+        String dateString,
+        String direction
+) {
+    public static NightscoutEntryResponse of(String id, Integer sgv, Long date, String dateString, String direction) {
+        return new NightscoutEntryResponse(id, "sgv", sgv, date, dateString, direction);
+    }
+}
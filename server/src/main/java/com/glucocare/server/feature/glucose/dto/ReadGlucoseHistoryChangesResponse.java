@@ -0,0 +1,13 @@
+package com.glucocare.server.feature.glucose.dto;
+
+import java.util.List;
+
+public record ReadGlucoseHistoryChangesResponse(
+        List<ReadGlucoseHistoryResponse> histories,
+        Long watermark,
+        Boolean hasNext
+) {
+    public static ReadGlucoseHistoryChangesResponse of(List<ReadGlucoseHistoryResponse> histories, Long watermark, Boolean hasNext) {
+        return new ReadGlucoseHistoryChangesResponse(histories, watermark, hasNext);
+    }
+}
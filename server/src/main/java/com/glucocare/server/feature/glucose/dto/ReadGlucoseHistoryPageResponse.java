@@ -0,0 +1,13 @@
+package com.glucocare.server.feature.glucose.dto;
+
+import java.util.List;
+
+public record ReadGlucoseHistoryPageResponse(
+        List<ReadGlucoseHistoryResponse> histories,
+        Long nextCursor,
+        Boolean hasNext
+) {
+    public static ReadGlucoseHistoryPageResponse of(List<ReadGlucoseHistoryResponse> histories, Long nextCursor, Boolean hasNext) {
+        return new ReadGlucoseHistoryPageResponse(histories, nextCursor, hasNext);
+    }
+}
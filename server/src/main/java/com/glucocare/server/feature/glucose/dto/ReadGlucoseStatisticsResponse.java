@@ -0,0 +1,17 @@
+package com.glucocare.server.feature.glucose.dto;
+
+public record ReadGlucoseStatisticsResponse(
+        Long bucketStart,
+        Integer readingCount,
+        Double mean,
+        Double standardDeviation,
+        Integer minSgv,
+        Integer maxSgv,
+        Double timeInRange,
+        Integer hypoCount,
+        Integer hyperCount
+) {
+    public static ReadGlucoseStatisticsResponse of(Long bucketStart, Integer readingCount, Double mean, Double standardDeviation, Integer minSgv, Integer maxSgv, Double timeInRange, Integer hypoCount, Integer hyperCount) {
+        return new ReadGlucoseStatisticsResponse(bucketStart, readingCount, mean, standardDeviation, minSgv, maxSgv, timeInRange, hypoCount, hyperCount);
+    }
+}
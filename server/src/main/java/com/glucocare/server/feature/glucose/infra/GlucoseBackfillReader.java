@@ -0,0 +1,149 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.glucose.domain.GlucoseBackfillFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+// 제조사 CSV 를 한 줄씩 읽어 CHUNK_SIZE 건마다 chunkHandler 로 넘기며, 읽은 측정값 개수를 반환
+// 혈당 대신 Low / High 처럼 숫자가 아닌 값이 기록된 행과 측정값이 아닌 이벤트 행은 건너뜀
+@Component
+public class GlucoseBackfillReader {
+    private static final int CHUNK_SIZE = 5000;
+    private static final String GZIP = "gzip";
+    private static final char BOM = '\uFEFF';
+
+    public Integer read(InputStream inputStream, String contentEncoding, GlucoseBackfillFormat format, ZoneId zone, Consumer<Map<Long, Integer>> chunkHandler) {
+        var received = 0;
+        var chunk = new LinkedHashMap<Long, Integer>();
+        try (var reader = new BufferedReader(new InputStreamReader(GZIP.equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(inputStream) : inputStream, StandardCharsets.UTF_8))) {
+            var columns = readHeader(reader, format);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                var values = split(line);
+                if (columns.type >= 0 && (columns.type >= values.size() || !format.getAcceptedTypes()
+                                                                                 .contains(values.get(columns.type)))) continue;
+                var sgv = readGlucose(values, columns.glucoses);
+                if (sgv == null || columns.timestamp >= values.size()) continue;
+                chunk.put(readTimestamp(values.get(columns.timestamp), format, zone), sgv);
+                received++;
+                if (chunk.size() >= CHUNK_SIZE) {
+                    chunkHandler.accept(chunk);
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+        } catch (ZipException exception) {
+            throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        if (!chunk.isEmpty()) chunkHandler.accept(chunk);
+        return received;
+    }
+
+    // LibreView 처럼 첫 줄에 내보내기 정보가 있는 경우가 있으므로, 측정 시각 열이 있는 줄을 헤더로 사용
+    private Columns readHeader(BufferedReader reader, GlucoseBackfillFormat format) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isEmpty() && line.charAt(0) == BOM) line = line.substring(1);
+            var names = split(line);
+            var timestamp = indexOf(names, format.getTimestampColumn());
+            if (timestamp < 0) continue;
+
+            var glucoses = new ArrayList<Integer>();
+            for (var glucoseColumn : format.getGlucoseColumns()) {
+                var index = indexOf(names, glucoseColumn);
+                if (index >= 0) glucoses.add(index);
+            }
+            if (glucoses.isEmpty()) break; // mmol/L 로 내보낸 파일처럼 지원하지 않는 단위
+            return new Columns(timestamp, glucoses, indexOf(names, format.getTypeColumn()));
+        }
+        throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+    }
+
+    private int indexOf(List<String> names, String column) {
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i)
+                     .startsWith(column)) return i;
+        }
+        return -1;
+    }
+
+    private Integer readGlucose(List<String> values, List<Integer> glucoses) {
+        for (var index : glucoses) {
+            if (index >= values.size() || values.get(index)
+                                                .isEmpty()) continue;
+            try {
+                return (int) Math.round(Double.parseDouble(values.get(index)));
+            } catch (NumberFormatException exception) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private Long readTimestamp(String value, GlucoseBackfillFormat format, ZoneId zone) {
+        for (var formatter : format.getTimestampFormats()) {
+            try {
+                return LocalDateTime.parse(value, formatter)
+                                    .atZone(zone)
+                                    .toInstant()
+                                    .toEpochMilli();
+            } catch (DateTimeParseException ignored) {
+                // 다음 형식으로 다시 시도
+            }
+        }
+        throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+    }
+
+    // 큰따옴표로 감싼 값 안의 쉼표와 "" 를 처리하며, 여러 줄에 걸친 값은 지원하지 않음
+    private List<String> split(String line) {
+        var values = new ArrayList<String>();
+        var current = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            var c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString()
+                                  .trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString()
+                          .trim());
+        return values;
+    }
+
+    private record Columns(int timestamp, List<Integer> glucoses, int type) {
+    }
+}
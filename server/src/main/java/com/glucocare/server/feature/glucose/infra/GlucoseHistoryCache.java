@@ -1,62 +1,335 @@
 package com.glucocare.server.feature.glucose.infra;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.glucocare.server.exception.ApplicationException;
-import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.glucose.domain.GlucoseSeriesCodec;
 import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
 import com.glucocare.server.feature.member.domain.Member;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GlucoseHistoryCache {
-    private static final String KEY_PREFIX = "glucose:history:";
+    // 하루 단위 블록을 GlucoseSeriesCodec 으로 압축하여 score(블록 시작 시각)와 함께 저장
+    private static final String KEY_PREFIX = "glucose:history:blocks:";
+    private static final String TEMP_KEY_SUFFIX = ":rebuild:";
     private static final Long CACHE_REMAINED_HOURS = 1L;
+    private static final Long BLOCK_MILLIS = Duration.ofDays(1)
+                                                     .toMillis();
+    private static final Integer MAX_APPEND_ATTEMPTS = 3;
+    private static final Long RANGE_BLOCK_BATCH = 7L;
+    // 이력이 없는 환자도 매번 DB 를 조회하지 않도록 빈 블록 하나를 모든 블록보다 앞선 score 에 짧게 저장
+    private static final Double EMPTY_MARKER_SCORE = -1.0;
+    private static final Long EMPTY_MARKER_REMAINED_SECONDS = 60L;
+    // 캐시에 반영해야 할 변경(추가, 비우기)이 생길 때마다 캐시 키의 존재 여부와 관계없이 증가시키는 환자별 버전
+    // 재구성은 DB 를 읽기 전에 버전을 읽어 두고, 그 사이 버전이 바뀌었다면 읽은 이력이 오래된 것이므로 캐시로 교체하지 않음
+    private static final String VERSION_KEY_PREFIX = "glucose:history:version:";
+    private static final Long VERSION_REMAINED_SECONDS = Duration.ofDays(1)
+                                                                 .toSeconds();
+    private static final DefaultRedisScript<Long> BUMP_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return version
+            """, Long.class);
+    // KEYS[1] 임시 키, KEYS[2] 캐시 키, KEYS[3] 버전 키이며, 버전이 그대로일 때만 교체하고 아니면 임시 키를 지움
+    private static final DefaultRedisScript<Long> REPLACE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[3]) or '0') == ARGV[1] then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                return 1
+            end
+            redis.call('DEL', KEYS[1])
+            return 0
+            """, Long.class);
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final GlucoseHistoryLocalCache glucoseHistoryLocalCache;
+    private final GlucoseHistoryCacheMetrics glucoseHistoryCacheMetrics;
 
-    public Boolean existsByPatient(Member patient) {
-        var key = KEY_PREFIX + patient.getId();
-        return redisTemplate.hasKey(key);
+    public Boolean existsByPatientId(Long patientId) {
+        if (glucoseHistoryLocalCache.findAllByPatientId(patientId)
+                                    .isPresent()) {
+            return true;
+        }
+        return binaryRedisTemplate.hasKey(KEY_PREFIX + patientId);
     }
 
-    public List<ReadGlucoseHistoryResponse> readAllByPatient(Member patient) {
-        var key = KEY_PREFIX + patient.getId();
-        var json = redisTemplate.opsForValue()
-                                .get(key);
-        if (json == null) return List.of();
-        try {
-            var type = objectMapper.getTypeFactory()
-                                   .constructCollectionType(List.class, ReadGlucoseHistoryResponse.class);
-            return objectMapper.readValue(json, type);
-        } catch (Exception e) {
-            return List.of();
+    // 로컬 캐시 -> Redis 순서로 조회하며, 빈 이력은 빈 블록으로 저장되므로 Redis 의 빈 결과는 미스로 간주
+    public Optional<List<ReadGlucoseHistoryResponse>> findAllByPatientId(Long patientId) {
+        var local = glucoseHistoryLocalCache.findAllByPatientId(patientId);
+        glucoseHistoryCacheMetrics.recordLocal(local.isPresent());
+        if (local.isPresent()) return local;
+
+        var version = glucoseHistoryLocalCache.versionOf(patientId);
+        var key = KEY_PREFIX + patientId;
+        var blocks = binaryRedisTemplate.opsForZSet()
+                                        .range(key, 0, -1);
+        var histories = decodeBlocks(key, blocks);
+        glucoseHistoryCacheMetrics.recordRedis(histories.isPresent());
+        if (histories.isEmpty()) return Optional.empty();
+
+        var result = new ArrayList<>(histories.get());
+        Collections.reverse(result);
+        glucoseHistoryLocalCache.putIfUnchanged(patientId, result, version);
+        return Optional.of(result);
+    }
+
+    // [from, to) 구간을 최신순으로 최대 limit 건 조회하며, 블록도 최신순으로 가져와 limit 을 채우면 더 읽지 않음
+    public Optional<List<ReadGlucoseHistoryResponse>> findRangeByPatientId(Long patientId, long from, long to, int limit) {
+        var local = glucoseHistoryLocalCache.findAllByPatientId(patientId);
+        glucoseHistoryCacheMetrics.recordLocal(local.isPresent());
+        if (local.isPresent()) return Optional.of(sliceRange(local.get(), from, to, limit));
+
+        var key = KEY_PREFIX + patientId;
+        var result = new ArrayList<ReadGlucoseHistoryResponse>();
+        var offset = 0L;
+        while (result.size() < limit) {
+            var blocks = binaryRedisTemplate.opsForZSet()
+                                            .reverseRangeByScore(key, blockOf(from), blockOf(to - 1), offset, RANGE_BLOCK_BATCH);
+            if (blocks == null || blocks.isEmpty()) break;
+            offset += blocks.size();
+
+            for (var block : blocks) {
+                var histories = decodeBlocks(key, List.of(block));
+                if (histories.isEmpty()) {
+                    glucoseHistoryCacheMetrics.recordRedis(false);
+                    return Optional.empty();
+                }
+                var ascending = histories.get();
+                for (int i = ascending.size() - 1; i >= 0 && result.size() < limit; i--) {
+                    var history = ascending.get(i);
+                    if (history.dateTime() >= to) continue;
+                    if (history.dateTime() < from) break;
+                    result.add(history);
+                }
+                if (result.size() >= limit) break;
+            }
+            if (blocks.size() < RANGE_BLOCK_BATCH) break;
+        }
+
+        // 구간에 블록이 없을 때만 캐시 존재 여부를 추가로 확인
+        if (offset == 0 && !Boolean.TRUE.equals(binaryRedisTemplate.hasKey(key))) {
+            glucoseHistoryCacheMetrics.recordRedis(false);
+            return Optional.empty();
         }
+        glucoseHistoryCacheMetrics.recordRedis(true);
+        return Optional.of(result);
     }
 
-    public void createGlucoseHistories(Member patient, List<ReadGlucoseHistoryResponse> histories) {
+    // 재구성 시 DB 를 읽기 전에 호출하여 createGlucoseHistories 에 그대로 넘겨야 함
+    public Long findVersionByPatientId(Long patientId) {
+        var version = redisTemplate.opsForValue()
+                                   .get(VERSION_KEY_PREFIX + patientId);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    // version 은 이력을 읽기 전에 findVersionByPatientId 로 얻은 값이며, 그 사이 추가된 혈당이 있다면 캐시로 만들지 않음
+    public void createGlucoseHistories(Member patient, List<ReadGlucoseHistoryResponse> histories, Long version) {
         var key = KEY_PREFIX + patient.getId();
-        if (redisTemplate.hasKey(key)) {
-            redisTemplate.delete(key);
+        if (histories.isEmpty()) {
+            createEmptyMarker(patient.getId(), key, version);
+            return;
+        }
+
+        // 재구성마다 다른 임시 키에 전체를 적재한 뒤 버전을 확인하며 RENAME 으로 교체하여, 적재 중인 불완전한 캐시나
+        // 재구성 도중 커밋된 혈당이 빠진 캐시가 조회되지 않고, 동시에 진행되는 재구성끼리 임시 키를 덮어쓰지 않도록 함
+        var tempKey = key + TEMP_KEY_SUFFIX + UUID.randomUUID();
+        var tuples = new HashSet<ZSetOperations.TypedTuple<byte[]>>();
+        for (var block : groupByBlock(histories).entrySet()) {
+            tuples.add(new DefaultTypedTuple<>(GlucoseSeriesCodec.encode(block.getValue()), block.getKey()
+                                                                                                 .doubleValue()));
         }
+        binaryRedisTemplate.opsForZSet()
+                           .add(tempKey, tuples);
+        binaryRedisTemplate.expire(tempKey, Duration.ofHours(CACHE_REMAINED_HOURS));
+        replaceIfUnchanged(patient.getId(), tempKey, key, version);
+        // 로컬 캐시는 다음 조회 시점에 Redis 에서 버전을 확인하며 채움
+    }
+
+    // 첫 혈당이 추가되면 mergeBlocks 에서 지워지고, 그 전에는 짧은 TTL 로 만료됨
+    private void createEmptyMarker(Long patientId, String key, Long version) {
+        var tempKey = key + TEMP_KEY_SUFFIX + UUID.randomUUID();
+        binaryRedisTemplate.opsForZSet()
+                           .add(tempKey, GlucoseSeriesCodec.encode(List.of()), EMPTY_MARKER_SCORE);
+        binaryRedisTemplate.expire(tempKey, Duration.ofSeconds(EMPTY_MARKER_REMAINED_SECONDS));
+        replaceIfUnchanged(patientId, tempKey, key, version);
+    }
 
+    private void replaceIfUnchanged(Long patientId, String tempKey, String key, Long version) {
+        var replaced = redisTemplate.execute(REPLACE_IF_UNCHANGED_SCRIPT, List.of(tempKey, key, VERSION_KEY_PREFIX + patientId), String.valueOf(version));
+        if (!Long.valueOf(1L)
+                 .equals(replaced)) {
+            log.debug("재구성 도중 혈당 캐시가 변경되어 교체하지 않습니다. patientId={}", patientId);
+        }
+    }
+
+    // 캐시 키가 없어 병합하지 않는 경우에도 증가시켜, 진행 중인 재구성이 이 변경이 빠진 이력으로 캐시를 만들지 않도록 함
+    private void bumpVersion(Long patientId) {
+        redisTemplate.execute(BUMP_VERSION_SCRIPT, List.of(VERSION_KEY_PREFIX + patientId), String.valueOf(VERSION_REMAINED_SECONDS));
+    }
+
+    // 롤백된 혈당이 캐시에 남지 않도록, 트랜잭션이 있다면 커밋 이후에 반영
+    public void appendAll(Long patientId, List<ReadGlucoseHistoryResponse> histories) {
+        if (histories.isEmpty()) return;
+        afterCommit(() -> append(patientId, histories));
+    }
+
+    private void append(Long patientId, List<ReadGlucoseHistoryResponse> histories) {
+        var key = KEY_PREFIX + patientId;
+        bumpVersion(patientId);
+        var appended = false;
         try {
-            var value = objectMapper.writeValueAsString(histories);
-            redisTemplate.opsForValue()
-                         .set(key, value, Duration.ofHours(CACHE_REMAINED_HOURS));
-        } catch (JsonProcessingException exception) {
-            throw new ApplicationException(ErrorMessage.INVALID_CONVERT_REQUEST);
+            for (int attempt = 0; attempt < MAX_APPEND_ATTEMPTS && !appended; attempt++) {
+                appended = Boolean.TRUE.equals(binaryRedisTemplate.execute(mergeBlocks(key, histories)));
+            }
+        } catch (ApplicationException exception) {
+            log.warn("혈당 캐시 블록을 해석할 수 없어 캐시를 비웁니다. key={}", key);
         }
+        if (!appended) {
+            // 동시 갱신 충돌이 반복되거나 블록이 손상된 경우, 캐시를 비워 다음 조회에서 다시 만들도록 함
+            binaryRedisTemplate.delete(key);
+        }
+        publishInvalidation(patientId);
     }
 
+    // 커밋 전에 비우면 그 사이의 조회가 이전 값으로 다시 채울 수 있으므로, 트랜잭션이 있다면 커밋 이후에 비움
     public void clearByPatientId(Long patientId) {
-        var key = KEY_PREFIX + patientId;
-        redisTemplate.delete(key);
+        afterCommit(() -> {
+            bumpVersion(patientId);
+            binaryRedisTemplate.delete(KEY_PREFIX + patientId);
+            publishInvalidation(patientId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 추가되는 혈당이 속한 블록만 WATCH 후 읽어서 병합하고, 다른 요청과 충돌하면 false 를 반환
+    private SessionCallback<Boolean> mergeBlocks(String key, List<ReadGlucoseHistoryResponse> histories) {
+        return new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Boolean execute(RedisOperations<K, V> operations) {
+                var ops = (RedisOperations<String, byte[]>) operations;
+                ops.watch(key);
+                if (!Boolean.TRUE.equals(ops.hasKey(key))) {
+                    ops.unwatch();
+                    return true; // 캐시가 없다면 다음 조회 시점에 새로 만들어짐
+                }
+
+                var merged = new TreeMap<Long, byte[]>();
+                for (var block : groupByBlock(histories).entrySet()) {
+                    var readings = new TreeMap<Long, ReadGlucoseHistoryResponse>();
+                    var existing = ops.opsForZSet()
+                                      .rangeByScore(key, block.getKey(), block.getKey());
+                    if (existing != null) {
+                        existing.forEach(bytes -> GlucoseSeriesCodec.decode(bytes)
+                                                                    .forEach(history -> readings.put(history.dateTime(), history)));
+                    }
+                    block.getValue()
+                         .forEach(history -> readings.put(history.dateTime(), history));
+                    merged.put(block.getKey(), GlucoseSeriesCodec.encode(new ArrayList<>(readings.values())));
+                }
+
+                ops.multi();
+                ops.opsForZSet()
+                   .removeRangeByScore(key, EMPTY_MARKER_SCORE, EMPTY_MARKER_SCORE);
+                for (var block : merged.entrySet()) {
+                    ops.opsForZSet()
+                       .removeRangeByScore(key, block.getKey(), block.getKey());
+                    ops.opsForZSet()
+                       .add(key, block.getValue(), block.getKey());
+                }
+                ops.expire(key, Duration.ofHours(CACHE_REMAINED_HOURS));
+                var results = ops.exec();
+                return results != null && !results.isEmpty();
+            }
+        };
+    }
+
+    // 모든 노드(자기 자신 포함)의 로컬 캐시를 비우고, 다음 조회 시 Redis 에서 다시 채움
+    private void publishInvalidation(Long patientId) {
+        glucoseHistoryLocalCache.evict(patientId);
+        redisTemplate.convertAndSend(GlucoseHistoryInvalidationListener.CHANNEL, String.valueOf(patientId));
+    }
+
+    // 블록은 score 오름차순으로, 블록 내부는 측정 시각 오름차순으로 저장되어 있으므로 이어 붙이면 전체가 오름차순이 됨
+    private Optional<List<ReadGlucoseHistoryResponse>> decodeBlocks(String key, Collection<byte[]> blocks) {
+        if (blocks == null || blocks.isEmpty()) return Optional.empty();
+        try {
+            var histories = new ArrayList<ReadGlucoseHistoryResponse>();
+            for (var block : blocks) {
+                histories.addAll(GlucoseSeriesCodec.decode(block));
+            }
+            return Optional.of(histories);
+        } catch (ApplicationException exception) {
+            log.warn("혈당 캐시 블록을 해석할 수 없어 캐시를 비웁니다. key={}", key);
+            binaryRedisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    private TreeMap<Long, List<ReadGlucoseHistoryResponse>> groupByBlock(List<ReadGlucoseHistoryResponse> histories) {
+        var blocks = new TreeMap<Long, List<ReadGlucoseHistoryResponse>>();
+        for (var history : histories) {
+            blocks.computeIfAbsent(blockOf(history.dateTime()), block -> new ArrayList<>())
+                  .add(history);
+        }
+        return blocks;
+    }
+
+    private long blockOf(long dateTime) {
+        return dateTime - Math.floorMod(dateTime, BLOCK_MILLIS);
+    }
+
+    // histories 는 최신순으로 정렬되어 있으므로 이진 탐색으로 시작 위치를 찾음
+    private List<ReadGlucoseHistoryResponse> sliceRange(List<ReadGlucoseHistoryResponse> histories, long from, long to, int limit) {
+        int low = 0;
+        int high = histories.size();
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (histories.get(mid)
+                         .dateTime() >= to) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        var result = new ArrayList<ReadGlucoseHistoryResponse>();
+        for (int i = low; i < histories.size() && result.size() < limit; i++) {
+            var history = histories.get(i);
+            if (history.dateTime() < from) break;
+            result.add(history);
+        }
+        return result;
     }
 }
@@ -0,0 +1,49 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GlucoseHistoryCacheMetrics {
+    private static final String REQUESTS = "glucose.history.cache.requests";
+    private static final String HIT_RATIO = "glucose.history.cache.hit.ratio";
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+
+    public GlucoseHistoryCacheMetrics(MeterRegistry meterRegistry) {
+        this.localHit = counter(meterRegistry, "local", "hit");
+        this.localMiss = counter(meterRegistry, "local", "miss");
+        this.redisHit = counter(meterRegistry, "redis", "hit");
+        this.redisMiss = counter(meterRegistry, "redis", "miss");
+        Gauge.builder(HIT_RATIO, this, metrics -> ratio(metrics.localHit, metrics.localMiss))
+             .tag("tier", "local")
+             .register(meterRegistry);
+        Gauge.builder(HIT_RATIO, this, metrics -> ratio(metrics.redisHit, metrics.redisMiss))
+             .tag("tier", "redis")
+             .register(meterRegistry);
+    }
+
+    public void recordLocal(boolean hit) {
+        (hit ? localHit : localMiss).increment();
+    }
+
+    public void recordRedis(boolean hit) {
+        (hit ? redisHit : redisMiss).increment();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder(REQUESTS)
+                      .tag("tier", tier)
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+
+    private static double ratio(Counter hit, Counter miss) {
+        var total = hit.count() + miss.count();
+        return total == 0 ? 0.0 : hit.count() / total;
+    }
+}
@@ -0,0 +1,36 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GlucoseHistoryInvalidationListener implements MessageListener {
+    public static final String CHANNEL = "glucose:history:invalidation";
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final GlucoseHistoryLocalCache glucoseHistoryLocalCache;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            glucoseHistoryLocalCache.evict(Long.parseLong(body));
+        } catch (NumberFormatException exception) {
+            log.warn("잘못된 혈당 캐시 무효화 메시지입니다: {}", body);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class GlucoseHistoryLocalCache {
+    private static final String CACHE_NAME = "glucose.history.local";
+    private static final Long CACHE_REMAINED_MINUTES = 10L; // 무효화 메시지를 놓쳤을 경우를 대비한 최대 보관 시간
+    private static final int VERSION_STRIPES = 4096;
+    private final Cache<Long, List<ReadGlucoseHistoryResponse>> cache;
+    // 무효화될 때마다 올라가는 환자별(여러 환자가 한 칸을 공유) 버전으로, 무효화 이전에 읽은 값이 무효화 이후에 채워지는 것을 막음
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public GlucoseHistoryLocalCache(MeterRegistry meterRegistry, @Value("${glucose.cache.local.max-readings:500000}") Long maxReadings) {
+        // 환자 수가 아니라 보관 중인 혈당 개수 기준으로 크기를 제한
+        this.cache = Caffeine.newBuilder()
+                             .maximumWeight(maxReadings)
+                             .weigher((Long patientId, List<ReadGlucoseHistoryResponse> histories) -> histories.size() + 1)
+                             .expireAfterWrite(Duration.ofMinutes(CACHE_REMAINED_MINUTES))
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<List<ReadGlucoseHistoryResponse>> findAllByPatientId(Long patientId) {
+        return Optional.ofNullable(cache.getIfPresent(patientId));
+    }
+
+    // Redis 를 읽기 전에 확인하여 putIfUnchanged 에 넘김
+    public long versionOf(Long patientId) {
+        return versions.get(stripeOf(patientId));
+    }
+
+    // 읽는 도중 무효화되었다면 방금 넣은 값을 다시 비움(무효화가 넣기 전후 어느 쪽이든 오래된 값이 남지 않음)
+    public void putIfUnchanged(Long patientId, List<ReadGlucoseHistoryResponse> histories, long version) {
+        cache.put(patientId, List.copyOf(histories));
+        if (versionOf(patientId) != version) cache.invalidate(patientId);
+    }
+
+    public void evict(Long patientId) {
+        versions.incrementAndGet(stripeOf(patientId));
+        cache.invalidate(patientId);
+    }
+
+    private int stripeOf(Long patientId) {
+        return Math.floorMod(Long.hashCode(patientId), VERSION_STRIPES);
+    }
+}
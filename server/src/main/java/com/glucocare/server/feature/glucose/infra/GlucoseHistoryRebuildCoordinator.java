@@ -0,0 +1,134 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class GlucoseHistoryRebuildCoordinator {
+    // 같은 환자의 캐시 재구성을 노드 안에서는 CompletableFuture 로, 노드 사이에서는 Redis 락으로 한 번만 수행
+    private static final String LOCK_KEY_PREFIX = "glucose:history:rebuild-lock:";
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Long POLL_INTERVAL_MILLIS = 50L;
+    private static final String REBUILDS = "glucose.history.cache.rebuilds";
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private final Map<Long, CompletableFuture<List<ReadGlucoseHistoryResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GlucoseHistoryCache glucoseHistoryCache;
+    private final Counter leader;
+    private final Counter coalescedLocal;
+    private final Counter coalescedRemote;
+    private final Counter fallback;
+
+    public GlucoseHistoryRebuildCoordinator(RedisTemplate<String, String> redisTemplate, GlucoseHistoryCache glucoseHistoryCache, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.glucoseHistoryCache = glucoseHistoryCache;
+        this.leader = counter(meterRegistry, "leader");
+        this.coalescedLocal = counter(meterRegistry, "coalesced_local");
+        this.coalescedRemote = counter(meterRegistry, "coalesced_remote");
+        this.fallback = counter(meterRegistry, "fallback");
+    }
+
+    // rebuild 는 DB 에서 이력을 읽어 캐시에 적재하고 그 결과를 반환해야 함
+    public List<ReadGlucoseHistoryResponse> rebuild(Long patientId, Supplier<List<ReadGlucoseHistoryResponse>> rebuild) {
+        var created = new CompletableFuture<List<ReadGlucoseHistoryResponse>>();
+        var existing = inFlight.putIfAbsent(patientId, created);
+        if (existing != null) {
+            coalescedLocal.increment();
+            return join(existing);
+        }
+
+        try {
+            var result = rebuildAcrossNodes(patientId, rebuild);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException exception) {
+            created.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(patientId, created);
+        }
+    }
+
+    private List<ReadGlucoseHistoryResponse> rebuildAcrossNodes(Long patientId, Supplier<List<ReadGlucoseHistoryResponse>> rebuild) {
+        var lockKey = LOCK_KEY_PREFIX + patientId;
+        var token = UUID.randomUUID()
+                        .toString();
+        var acquired = redisTemplate.opsForValue()
+                                    .setIfAbsent(lockKey, token, LOCK_TIMEOUT);
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                // 직전 재구성이 락을 막 해제한 경우라면 이미 채워진 캐시를 사용
+                var cached = glucoseHistoryCache.findAllByPatientId(patientId);
+                if (cached.isPresent()) {
+                    coalescedRemote.increment();
+                    return cached.get();
+                }
+                leader.increment();
+                return rebuild.get();
+            } finally {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+            }
+        }
+
+        // 다른 노드가 재구성 중이라면 캐시가 채워질 때까지 잠시 기다리고, 시간 안에 채워지지 않으면 직접 조회
+        var deadline = System.currentTimeMillis() + WAIT_TIMEOUT.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            var cached = glucoseHistoryCache.findAllByPatientId(patientId);
+            if (cached.isPresent()) {
+                coalescedRemote.increment();
+                return cached.get();
+            }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) break;
+            if (!sleep()) break;
+        }
+        fallback.increment();
+        return rebuild.get();
+    }
+
+    private List<ReadGlucoseHistoryResponse> join(CompletableFuture<List<ReadGlucoseHistoryResponse>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            throw exception;
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread()
+                  .interrupt();
+            return false;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REBUILDS)
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GlucoseHistoryWatermark {
+    // 환자별 최신 측정 시각(latest)과 수정 카운터(version)를 해시로 관리
+    // version 은 키가 처음 만들어질 때 현재 시각(µs)으로 시작하므로, 키가 만료되어 다시 만들어져도 이전 ETag 와 겹치지 않음
+    private static final String KEY_PREFIX = "glucose:watermark:";
+    private static final Long KEY_REMAINED_MILLIS = Duration.ofDays(7)
+                                                            .toMillis();
+    // "version-latest" 형태로 반환
+    private static final DefaultRedisScript<String> READ_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSETNX', KEYS[1], 'version', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            local values = redis.call('HMGET', KEYS[1], 'version', 'latest')
+            return values[1] .. '-' .. (values[2] or '0')
+            """, String.class);
+    private static final DefaultRedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSETNX', KEYS[1], 'version', ARGV[1])
+            local version = redis.call('HINCRBY', KEYS[1], 'version', 1)
+            local latest = tonumber(redis.call('HGET', KEYS[1], 'latest') or '0')
+            if tonumber(ARGV[2]) > latest then
+                redis.call('HSET', KEYS[1], 'latest', ARGV[2])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return version
+            """, Long.class);
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 강한 ETag 값(따옴표 제외)을 반환
+    public String findETagByPatientId(Long patientId) {
+        var versionAndLatest = redisTemplate.execute(READ_SCRIPT, List.of(KEY_PREFIX + patientId), initialVersion(), String.valueOf(KEY_REMAINED_MILLIS));
+        return patientId + "-" + versionAndLatest;
+    }
+
+    // 저장된 가장 최근 측정 시각을 반환하며, 기록이 없다면 0
+    public Long findLatestByPatientId(Long patientId) {
+        var latest = redisTemplate.opsForHash()
+                                  .get(KEY_PREFIX + patientId, "latest");
+        return latest == null ? 0L : Long.parseLong(String.valueOf(latest));
+    }
+
+    // 커밋 전에 갱신하면 이전 데이터가 새 ETag 로 응답될 수 있으므로, 트랜잭션이 있다면 커밋 이후에 갱신
+    public void touch(Long patientId, Long latestDateTime) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(patientId, latestDateTime);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(patientId, latestDateTime);
+            }
+        });
+    }
+
+    private void bump(Long patientId, Long latestDateTime) {
+        redisTemplate.execute(BUMP_SCRIPT, List.of(KEY_PREFIX + patientId), initialVersion(), String.valueOf(latestDateTime), String.valueOf(KEY_REMAINED_MILLIS));
+    }
+
+    private String initialVersion() {
+        return String.valueOf(System.currentTimeMillis() * 1000);
+    }
+}
@@ -0,0 +1,107 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 업로더가 겹치는 구간을 다시 보내는 경우를 걸러내기 위해, 환자별 최근 24시간 측정값(측정 시각 -> 혈당)을 해시로 보관
+// 저장이 커밋된 값만 기록하므로, 기록에 실패하더라도 걸러내지 못할 뿐 누락되지는 않음
+@Component
+@RequiredArgsConstructor
+public class GlucoseIngestDigest {
+    private static final String KEY_PREFIX = "glucose:ingest:digest:";
+    private static final Long WINDOW_MILLIS = Duration.ofHours(24)
+                                                      .toMillis();
+    private static final Integer MAX_FIELDS = 600; // 5분 간격 기준 약 2일치를 넘으면 오래된 측정값을 정리
+    // 바뀐 측정 시각을 쉼표로 이어 붙인 문자열로 반환
+    private static final DefaultRedisScript<String> FILTER_SCRIPT = new DefaultRedisScript<>("""
+            local changed = {}
+            for i = 1, #ARGV, 2 do
+                if redis.call('HGET', KEYS[1], ARGV[i]) ~= ARGV[i + 1] then
+                    table.insert(changed, ARGV[i])
+                end
+            end
+            return table.concat(changed, ',')
+            """, String.class);
+    private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local threshold = tonumber(ARGV[1])
+            for i = 4, #ARGV, 2 do
+                if tonumber(ARGV[i]) >= threshold then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+                end
+            end
+            if redis.call('HLEN', KEYS[1]) > tonumber(ARGV[3]) then
+                for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+                    if tonumber(field) < threshold then
+                        redis.call('HDEL', KEYS[1], field)
+                    end
+                end
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return redis.call('HLEN', KEYS[1])
+            """, Long.class);
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GlucoseHistoryWatermark glucoseHistoryWatermark;
+
+    // 새로 추가되거나 값이 바뀌었을 수 있는 측정값만 반환
+    // 마지막으로 저장된 측정 시각(watermark)보다 새로운 측정값은 확인 없이 포함
+    public Map<Long, Integer> filterChanged(Long patientId, Map<Long, Integer> readings) {
+        var latest = glucoseHistoryWatermark.findLatestByPatientId(patientId);
+        var threshold = System.currentTimeMillis() - WINDOW_MILLIS;
+        var args = new ArrayList<String>();
+        readings.forEach((dateTime, sgv) -> {
+            if (dateTime <= latest && dateTime >= threshold) {
+                args.add(String.valueOf(dateTime));
+                args.add(String.valueOf(sgv));
+            }
+        });
+        if (args.isEmpty()) return readings;
+
+        var changed = redisTemplate.execute(FILTER_SCRIPT, List.of(KEY_PREFIX + patientId), args.toArray());
+        var changedDateTimes = changed == null || changed.isEmpty() ? Set.<String>of() : Set.of(changed.split(","));
+        var result = new LinkedHashMap<Long, Integer>();
+        readings.forEach((dateTime, sgv) -> {
+            if (dateTime > latest || dateTime < threshold || changedDateTimes.contains(String.valueOf(dateTime))) {
+                result.put(dateTime, sgv);
+            }
+        });
+        return result;
+    }
+
+    // 트랜잭션이 있다면 커밋 이후에 기록
+    public void record(Long patientId, Map<Long, Integer> readings) {
+        if (readings.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(patientId, readings);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(patientId, readings);
+            }
+        });
+    }
+
+    private void put(Long patientId, Map<Long, Integer> readings) {
+        var args = new ArrayList<String>();
+        args.add(String.valueOf(System.currentTimeMillis() - WINDOW_MILLIS));
+        args.add(String.valueOf(WINDOW_MILLIS));
+        args.add(String.valueOf(MAX_FIELDS));
+        readings.forEach((dateTime, sgv) -> {
+            args.add(String.valueOf(dateTime));
+            args.add(String.valueOf(sgv));
+        });
+        redisTemplate.execute(RECORD_SCRIPT, List.of(KEY_PREFIX + patientId), args.toArray());
+    }
+}
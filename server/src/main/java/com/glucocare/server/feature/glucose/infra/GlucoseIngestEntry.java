@@ -0,0 +1,10 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import java.util.Map;
+
+public record GlucoseIngestEntry(
+        String id,
+        Long patientId,
+        Map<Long, Integer> readings
+) {
+}
@@ -0,0 +1,197 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+// 비동기 수집 모드에서 업로드된 혈당을 Redis Stream 에 적재하고, 소비자 그룹으로 나누어 꺼냄
+// 적재가 끝난 뒤에 응답하므로 Redis 의 AOF 영속화가 켜져 있다면 재시작 후에도 유실되지 않음
+@Slf4j
+@Component
+public class GlucoseIngestQueue {
+    private static final String STREAM_KEY = "glucose:ingest:stream";
+    private static final String DEAD_LETTER_KEY = "glucose:ingest:dead-letter";
+    private static final String DELIVERIES = "deliveries";
+    private static final String ORIGINAL_ID = "originalId";
+    private static final long MAX_DELIVERIES = 5; // 이 횟수만큼 전달되고도 확인되지 않은 업로드는 더 시도하지 않음
+    private static final String GROUP = "glucose-ingest";
+    private static final String PATIENT_ID = "patientId";
+    private static final String READINGS = "readings";
+    private static final String CONSUMER = UUID.randomUUID()
+                                               .toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Boolean enabled;
+    private final Long maxPending;
+
+    public GlucoseIngestQueue(RedisTemplate<String, String> redisTemplate, @Value("${glucose.ingest.async.enabled:false}") Boolean enabled, @Value("${glucose.ingest.max-pending:100000}") Long maxPending) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+    }
+
+    @PostConstruct
+    public void createGroup() {
+        if (!enabled) return;
+        try {
+            redisTemplate.opsForStream()
+                         .createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (RedisSystemException exception) {
+            log.debug("혈당 수집 소비자 그룹이 이미 존재합니다.");
+        }
+    }
+
+    // 비동기 모드가 아니거나 대기 중인 업로드가 가득 찬 경우 false 를 반환하며, 호출한 쪽에서 바로 저장해야 함
+    public boolean offer(Long patientId, Map<Long, Integer> readings) {
+        if (!enabled || readings.isEmpty()) return false;
+        var pending = redisTemplate.opsForStream()
+                                   .size(STREAM_KEY);
+        if (pending != null && pending >= maxPending) return false;
+
+        var record = StreamRecords.newRecord()
+                                  .in(STREAM_KEY)
+                                  .ofMap(Map.of(PATIENT_ID, String.valueOf(patientId), READINGS, encodeReadings(readings)));
+        return redisTemplate.opsForStream()
+                            .add(record) != null;
+    }
+
+    // 대기 중인 업로드가 한도의 90% 를 넘으면 포화 상태로 보고, 새 업로드를 잠시 거절하도록 함
+    public boolean isSaturated() {
+        if (!enabled) return false;
+        var pending = redisTemplate.opsForStream()
+                                   .size(STREAM_KEY);
+        return pending != null && pending >= maxPending * 9 / 10;
+    }
+
+    public List<GlucoseIngestEntry> poll(int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                                                                       .read(Consumer.from(GROUP, CONSUMER), StreamReadOptions.empty()
+                                                                                                                              .count(count), StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        return convertEntries(records);
+    }
+
+    // 처리 도중 종료된 노드(자기 자신 포함)가 확인하지 못한 업로드를 minIdle 이 지난 뒤 가져옴
+    // MAX_DELIVERIES 번 전달되고도 확인되지 않은 업로드는 저장할 수 없는 것으로 보고 dead-letter Stream 으로 옮김
+    public List<GlucoseIngestEntry> reclaim(Duration minIdle, int count) {
+        var pending = redisTemplate.opsForStream()
+                                   .pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        var deliveriesById = new HashMap<String, Long>();
+        pending.stream()
+               .filter(message -> message.getElapsedTimeSinceLastDelivery()
+                                         .compareTo(minIdle) >= 0)
+               .forEach(message -> deliveriesById.put(message.getIdAsString(), message.getTotalDeliveryCount()));
+        if (deliveriesById.isEmpty()) return List.of();
+        var ids = deliveriesById.keySet()
+                                .stream()
+                                .map(RecordId::of)
+                                .toArray(RecordId[]::new);
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                                                                       .claim(STREAM_KEY, GROUP, CONSUMER, RedisStreamCommands.XClaimOptions.minIdle(minIdle)
+                                                                                                                                        .ids(ids));
+        if (records == null) return List.of();
+        var retried = new ArrayList<MapRecord<String, Object, Object>>();
+        for (var record : records) {
+            var deliveries = deliveriesById.getOrDefault(record.getId()
+                                                               .getValue(), 0L);
+            if (deliveries >= MAX_DELIVERIES) {
+                deadLetter(record, deliveries);
+            } else {
+                retried.add(record);
+            }
+        }
+        return convertEntries(retried);
+    }
+
+    // DB 반영이 커밋된 뒤에 호출하며, 확인한 업로드는 Stream 에서도 지워 대기 개수를 정확히 유지
+    public void acknowledge(List<String> ids) {
+        if (ids.isEmpty()) return;
+        var recordIds = ids.stream()
+                           .map(RecordId::of)
+                           .toArray(RecordId[]::new);
+        redisTemplate.opsForStream()
+                     .acknowledge(STREAM_KEY, GROUP, recordIds);
+        redisTemplate.opsForStream()
+                     .delete(STREAM_KEY, recordIds);
+    }
+
+    // 같은 배치의 다른 환자는 저장되는데 따로 다시 시도해도 저장하지 못한 업로드는, 재전달해도 실패할 것으로 보고 바로 dead-letter Stream 으로 옮김
+    public void deadLetter(List<GlucoseIngestEntry> entries) {
+        for (var entry : entries) {
+            var value = new LinkedHashMap<String, String>();
+            value.put(PATIENT_ID, String.valueOf(entry.patientId()));
+            value.put(READINGS, encodeReadings(entry.readings()));
+            moveToDeadLetter(entry.id(), value);
+            log.error("혈당 업로드를 저장하지 못해 dead-letter 로 옮겼습니다. id={}, patientId={}", entry.id(), entry.patientId());
+        }
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record, Long deliveries) {
+        var id = record.getId()
+                       .getValue();
+        var value = new LinkedHashMap<String, String>();
+        record.getValue()
+              .forEach((key, field) -> value.put(String.valueOf(key), String.valueOf(field)));
+        value.put(DELIVERIES, String.valueOf(deliveries));
+        moveToDeadLetter(id, value);
+        log.error("혈당 업로드를 {}번 전달하고도 저장하지 못해 dead-letter 로 옮겼습니다. id={}, patientId={}", deliveries, id, value.get(PATIENT_ID));
+    }
+
+    private void moveToDeadLetter(String id, Map<String, String> value) {
+        value.put(ORIGINAL_ID, id);
+        redisTemplate.opsForStream()
+                     .add(StreamRecords.newRecord()
+                                       .in(DEAD_LETTER_KEY)
+                                       .ofMap(value));
+        acknowledge(List.of(id));
+    }
+
+    private String encodeReadings(Map<Long, Integer> readings) {
+        var joiner = new StringJoiner(",");
+        readings.forEach((dateTime, sgv) -> joiner.add(dateTime + ":" + sgv));
+        return joiner.toString();
+    }
+
+    private List<GlucoseIngestEntry> convertEntries(List<MapRecord<String, Object, Object>> records) {
+        var entries = new ArrayList<GlucoseIngestEntry>();
+        if (records == null) return entries;
+        for (var record : records) {
+            var id = record.getId()
+                           .getValue();
+            try {
+                var value = record.getValue();
+                var readings = new LinkedHashMap<Long, Integer>();
+                for (var reading : String.valueOf(value.get(READINGS))
+                                         .split(",")) {
+                    var values = reading.split(":");
+                    readings.put(Long.parseLong(values[0]), Integer.parseInt(values[1]));
+                }
+                entries.add(new GlucoseIngestEntry(id, Long.parseLong(String.valueOf(value.get(PATIENT_ID))), readings));
+            } catch (RuntimeException exception) {
+                // 다시 시도해도 해석할 수 없으므로 확인 처리하여 대기열에서 제거
+                log.warn("잘못된 혈당 수집 메시지를 버립니다. id={}", id);
+                acknowledge(List.of(id));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,144 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+
+// 환자별(인증되지 않은 요청은 클라이언트 주소별), 전체 토큰 버킷을 Redis 에 두어 여러 노드가 같은 한도를 공유하며, 결정 결과는 decision 태그로 집계
+@Slf4j
+@Component
+public class GlucoseIngestRateLimiter {
+    private static final String PATIENT_KEY_PREFIX = "glucose:ingest:rate:patient:";
+    private static final String CLIENT_KEY_PREFIX = "glucose:ingest:rate:client:";
+    private static final String GLOBAL_KEY = "glucose:ingest:rate:global";
+    private static final String DECISIONS = "glucose.ingest.rate_limit.decisions";
+    private static final Long BACKPRESSURE_RETRY_AFTER_SECONDS = 5L;
+    // 두 버킷 모두 토큰이 있을 때만 함께 차감하고 0 을 반환
+    // 부족하다면 대기 시간(ms)을 반환하며, 환자(또는 클라이언트) 버킷이 부족하면 양수, 전체 버킷이 부족하면 음수로 구분
+    private static final DefaultRedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local function refill(key, capacity, rate)
+                local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+                local tokens = tonumber(bucket[1]) or capacity
+                local ts = tonumber(bucket[2]) or now
+                return math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            end
+            local function save(key, tokens, capacity, rate)
+                redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', ARGV[1])
+                redis.call('PEXPIRE', key, math.ceil(capacity / rate * 1000) + 1000)
+            end
+            local patientCapacity, patientRate = tonumber(ARGV[2]), tonumber(ARGV[3])
+            local globalCapacity, globalRate = tonumber(ARGV[4]), tonumber(ARGV[5])
+            local patientTokens = refill(KEYS[1], patientCapacity, patientRate)
+            local globalTokens = refill(KEYS[2], globalCapacity, globalRate)
+            if patientTokens < 1 then
+                return math.ceil((1 - patientTokens) * 1000 / patientRate)
+            end
+            if globalTokens < 1 then
+                return -math.ceil((1 - globalTokens) * 1000 / globalRate)
+            end
+            save(KEYS[1], patientTokens - 1, patientCapacity, patientRate)
+            save(KEYS[2], globalTokens - 1, globalCapacity, globalRate)
+            return 0
+            """, Long.class);
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GlucoseIngestQueue glucoseIngestQueue;
+    private final DataSource dataSource;
+    private final Boolean enabled;
+    private final String patientCapacity;
+    private final String patientRefillPerSecond;
+    private final String globalCapacity;
+    private final String globalRefillPerSecond;
+    private final Integer maxAwaitingConnections;
+    private final Counter allowed;
+    private final Counter patientLimited;
+    private final Counter clientLimited;
+    private final Counter globalLimited;
+    private final Counter backpressure;
+    private final Counter failOpen;
+
+    public GlucoseIngestRateLimiter(RedisTemplate<String, String> redisTemplate, GlucoseIngestQueue glucoseIngestQueue, DataSource dataSource, MeterRegistry meterRegistry, @Value("${glucose.ingest.rate-limit.enabled:true}") Boolean enabled, @Value("${glucose.ingest.rate-limit.patient.capacity:30}") Double patientCapacity, @Value("${glucose.ingest.rate-limit.patient.refill-per-second:0.2}") Double patientRefillPerSecond, @Value("${glucose.ingest.rate-limit.global.capacity:2000}") Double globalCapacity, @Value("${glucose.ingest.rate-limit.global.refill-per-second:500}") Double globalRefillPerSecond, @Value("${glucose.ingest.rate-limit.max-awaiting-connections:5}") Integer maxAwaitingConnections) {
+        this.redisTemplate = redisTemplate;
+        this.glucoseIngestQueue = glucoseIngestQueue;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.patientCapacity = String.valueOf(patientCapacity);
+        this.patientRefillPerSecond = String.valueOf(patientRefillPerSecond);
+        this.globalCapacity = String.valueOf(globalCapacity);
+        this.globalRefillPerSecond = String.valueOf(globalRefillPerSecond);
+        this.maxAwaitingConnections = maxAwaitingConnections;
+        this.allowed = counter(meterRegistry, "allowed");
+        this.patientLimited = counter(meterRegistry, "patient_limited");
+        this.clientLimited = counter(meterRegistry, "client_limited");
+        this.globalLimited = counter(meterRegistry, "global_limited");
+        this.backpressure = counter(meterRegistry, "backpressure");
+        this.failOpen = counter(meterRegistry, "fail_open");
+    }
+
+    // 허용되면 빈 값을, 거절되면 Retry-After 로 보낼 대기 시간(초)을 반환
+    // 쓰기 요청은 수집 대기열이나 DB 커넥션 풀이 포화 상태라면 토큰과 관계없이 거절
+    public Optional<Long> tryAcquire(Long patientId, boolean write) {
+        return tryAcquire(patientId, write, System.currentTimeMillis());
+    }
+
+    // 접근 코드가 맞지 않는 요청은 환자 버킷 대신 클라이언트 주소별 버킷(환자와 같은 한도)에서 차감하여, 잘못된 요청이 실제 업로더를 막지 못하도록 함
+    public Optional<Long> tryAcquireUnauthenticated(String clientAddress, boolean write) {
+        return tryAcquireUnauthenticated(clientAddress, write, System.currentTimeMillis());
+    }
+
+    // 버킷 계산에 쓰는 현재 시각(ms)을 받으며, 테스트에서 시각을 고정할 때 사용
+    Optional<Long> tryAcquire(Long patientId, boolean write, long now) {
+        return tryAcquire(PATIENT_KEY_PREFIX + patientId, patientLimited, write, now);
+    }
+
+    Optional<Long> tryAcquireUnauthenticated(String clientAddress, boolean write, long now) {
+        return tryAcquire(CLIENT_KEY_PREFIX + clientAddress, clientLimited, write, now);
+    }
+
+    private Optional<Long> tryAcquire(String key, Counter limited, boolean write, long now) {
+        if (!enabled) return Optional.empty();
+        if (write && isSaturated()) {
+            backpressure.increment();
+            return Optional.of(BACKPRESSURE_RETRY_AFTER_SECONDS);
+        }
+
+        Long waitMillis;
+        try {
+            waitMillis = redisTemplate.execute(TAKE_SCRIPT, List.of(key, GLOBAL_KEY), String.valueOf(now), patientCapacity, patientRefillPerSecond, globalCapacity, globalRefillPerSecond);
+        } catch (RuntimeException exception) {
+            // Redis 장애로 업로드 자체가 막히지 않도록 허용
+            log.warn("혈당 업로드 요청 한도를 확인하지 못해 허용합니다.", exception);
+            failOpen.increment();
+            return Optional.empty();
+        }
+        if (waitMillis == null || waitMillis == 0L) {
+            allowed.increment();
+            return Optional.empty();
+        }
+        if (waitMillis > 0) limited.increment();
+        else globalLimited.increment();
+        return Optional.of(Math.max(1L, (Math.abs(waitMillis) + 999) / 1000));
+    }
+
+    private boolean isSaturated() {
+        if (glucoseIngestQueue.isSaturated()) return true;
+        if (!(dataSource instanceof HikariDataSource hikariDataSource)) return false;
+        var pool = hikariDataSource.getHikariPoolMXBean();
+        return pool != null && pool.getThreadsAwaitingConnection() >= maxAwaitingConnections;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder(DECISIONS)
+                      .tag("decision", decision)
+                      .register(meterRegistry);
+    }
+}
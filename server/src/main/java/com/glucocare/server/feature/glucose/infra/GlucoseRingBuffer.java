@@ -0,0 +1,123 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
+
+// 한 환자의 최근 혈당을 측정 시각 오름차순으로 원형 배열에 보관
+// 대부분의 입력은 가장 최근 혈당 뒤에 붙으므로 O(1) 이며, 늦게 들어온 혈당만 자리를 찾아 끼워 넣음
+public final class GlucoseRingBuffer {
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_CAPACITY = 4096; // 1분 간격 측정 기준 이틀 이상
+    private final long windowMillis;
+    private long[] dateTimes;
+    private short[] sgvs;
+    private int head;
+    private int size;
+
+    GlucoseRingBuffer(long windowMillis, int expectedSize) {
+        var capacity = INITIAL_CAPACITY;
+        while (capacity < expectedSize && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        this.windowMillis = windowMillis;
+        this.dateTimes = new long[capacity];
+        this.sgvs = new short[capacity];
+    }
+
+    public static boolean isStorable(int sgv) {
+        return sgv >= 0 && sgv <= Short.MAX_VALUE;
+    }
+
+    public synchronized void put(long dateTime, int sgv) {
+        if (!isStorable(sgv)) throw new IllegalArgumentException("sgv out of range: " + sgv);
+        var latest = size == 0 ? dateTime : Math.max(dateTime, dateTimeAt(size - 1));
+        if (dateTime < latest - windowMillis) return; // 보관 구간보다 오래된 혈당은 보관하지 않음
+
+        var hasSpace = ensureSpace(latest);
+        var index = size == 0 || dateTime > dateTimeAt(size - 1) ? size : search(dateTime);
+        if (index < size && dateTimeAt(index) == dateTime) {
+            sgvs[physical(index)] = (short) sgv; // 같은 측정 시각은 upsert 와 같이 덮어씀
+            return;
+        }
+        if (!hasSpace) {
+            if (index == 0) return; // 가득 찬 상태에서 가장 오래된 혈당보다 오래된 값은 버림
+            removeFirst();
+            index--;
+        }
+        for (int i = size; i > index; i--) {
+            var from = physical(i - 1);
+            var to = physical(i);
+            dateTimes[to] = dateTimes[from];
+            sgvs[to] = sgvs[from];
+        }
+        set(index, dateTime, sgv);
+        size++;
+    }
+
+    // from 이후(포함)의 혈당을 새 배열로 복사하여, 이후의 입력과 무관한 읽기 전용 구간으로 반환
+    public synchronized GlucoseWindow snapshot(long from) {
+        var start = search(from);
+        var length = size - start;
+        var copiedDateTimes = new long[length];
+        var copiedSgvs = new short[length];
+        for (int i = 0; i < length; i++) {
+            var index = physical(start + i);
+            copiedDateTimes[i] = dateTimes[index];
+            copiedSgvs[i] = sgvs[index];
+        }
+        return GlucoseWindow.of(copiedDateTimes, copiedSgvs, length);
+    }
+
+    // 보관 구간이 지난 혈당을 먼저 비우고, 그래도 가득 찼다면 최대 크기까지 배열을 늘림
+    private boolean ensureSpace(long latest) {
+        while (size > 0 && dateTimeAt(0) < latest - windowMillis) {
+            removeFirst();
+        }
+        if (size < dateTimes.length) return true;
+        if (dateTimes.length >= MAX_CAPACITY) return false;
+
+        var grownDateTimes = new long[dateTimes.length << 1];
+        var grownSgvs = new short[dateTimes.length << 1];
+        for (int i = 0; i < size; i++) {
+            grownDateTimes[i] = dateTimeAt(i);
+            grownSgvs[i] = sgvs[physical(i)];
+        }
+        dateTimes = grownDateTimes;
+        sgvs = grownSgvs;
+        head = 0;
+        return true;
+    }
+
+    private void removeFirst() {
+        head = (head + 1) % dateTimes.length;
+        size--;
+    }
+
+    // dateTime 이상인 첫 위치
+    private int search(long dateTime) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (dateTimeAt(mid) < dateTime) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long dateTimeAt(int index) {
+        return dateTimes[physical(index)];
+    }
+
+    private void set(int index, long dateTime, int sgv) {
+        var position = physical(index);
+        dateTimes[position] = dateTime;
+        sgvs[position] = (short) sgv;
+    }
+
+    private int physical(int index) {
+        return (head + index) % dateTimes.length;
+    }
+}
@@ -0,0 +1,36 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GlucoseRingBufferListener implements MessageListener {
+    public static final String CHANNEL = "glucose:recent:append";
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            glucoseRingBufferStore.applyMessage(body);
+        } catch (RuntimeException exception) {
+            log.warn("잘못된 최근 혈당 전달 메시지입니다: {}", body);
+        }
+    }
+}
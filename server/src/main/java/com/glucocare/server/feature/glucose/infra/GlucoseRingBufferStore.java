@@ -0,0 +1,182 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+// 활성 환자의 최근 24시간 혈당을 노드 메모리에 원시 배열로 보관
+// 저장 시점에 자신의 버퍼에 반영하고, 다른 노드에는 Redis pub/sub 으로 같은 혈당을 전달함
+@Slf4j
+@Component
+public class GlucoseRingBufferStore {
+    public static final Long WINDOW_MILLIS = Duration.ofHours(24)
+                                                     .toMillis();
+    private static final String CACHE_NAME = "glucose.recent";
+    private static final Long CACHE_REMAINED_MINUTES = 10L; // 전달 메시지를 놓쳤을 경우를 대비한 최대 보관 시간
+    private static final String NODE_ID = UUID.randomUUID()
+                                              .toString();
+    private static final int VERSION_STRIPES = 4096;
+    private final Cache<Long, GlucoseRingBuffer> cache;
+    // 버퍼가 없는 동안 들어온 혈당을 표시하여, 그 사이에 DB 에서 읽은 버퍼가 해당 혈당 없이 캐시에 남지 않도록 함
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public GlucoseRingBufferStore(GlucoseHistoryRepository glucoseHistoryRepository, RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry, @Value("${glucose.recent.max-patients:10000}") Long maxPatients) {
+        this.glucoseHistoryRepository = glucoseHistoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maxPatients)
+                             .expireAfterWrite(Duration.ofMinutes(CACHE_REMAINED_MINUTES))
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // from 은 최근 24시간 이내여야 하며, 버퍼가 없다면 DB 에서 최근 24시간을 읽어 만듦
+    public GlucoseWindow findRecentByPatientId(Long patientId, long from) {
+        var version = versionOf(patientId);
+        var loaded = new boolean[1];
+        var buffer = cache.get(patientId, key -> {
+            loaded[0] = true;
+            return load(key);
+        });
+        if (loaded[0]) invalidateIfChanged(patientId, version);
+        return buffer.snapshot(from);
+    }
+
+    // 버퍼가 없는 환자들은 한 번의 조회로 함께 만듦
+    public Map<Long, GlucoseWindow> findRecentByPatientIds(Collection<Long> patientIds, long from) {
+        var versionByPatientId = new HashMap<Long, Long>();
+        patientIds.forEach(patientId -> versionByPatientId.put(patientId, versionOf(patientId)));
+        var loadedPatientIds = new HashSet<Long>();
+        var buffers = cache.getAll(patientIds, keys -> {
+            loadedPatientIds.addAll(keys);
+            return loadAll(keys);
+        });
+        loadedPatientIds.forEach(patientId -> invalidateIfChanged(patientId, versionByPatientId.get(patientId)));
+        var windows = new HashMap<Long, GlucoseWindow>();
+        buffers.forEach((patientId, buffer) -> windows.put(patientId, buffer.snapshot(from)));
+        return windows;
+    }
+
+    // 롤백된 혈당이 버퍼에 남지 않도록, 트랜잭션이 있다면 커밋 이후에 반영
+    public void appendAll(Long patientId, Map<Long, Integer> readings) {
+        if (readings.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAndPublish(patientId, readings);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyAndPublish(patientId, readings);
+            }
+        });
+    }
+
+    // 메시지 형식 : nodeId|patientId|dateTime:sgv,dateTime:sgv...
+    void applyMessage(String message) {
+        var parts = message.split("\\|", 3);
+        if (parts.length < 3 || parts[0].equals(NODE_ID)) return;
+        var patientId = Long.parseLong(parts[1]);
+        var buffer = bufferForAppend(patientId);
+        if (buffer == null || parts[2].isEmpty()) return; // 버퍼가 없다면 다음 조회 시점에 새로 만들어짐
+        for (var reading : parts[2].split(",")) {
+            var values = reading.split(":");
+            put(patientId, buffer, Long.parseLong(values[0]), Integer.parseInt(values[1]));
+        }
+    }
+
+    public void evict(Long patientId) {
+        cache.invalidate(patientId);
+    }
+
+    private void applyAndPublish(Long patientId, Map<Long, Integer> readings) {
+        var buffer = bufferForAppend(patientId);
+        var threshold = System.currentTimeMillis() - WINDOW_MILLIS;
+        var joiner = new StringJoiner(",");
+        readings.forEach((dateTime, sgv) -> {
+            if (dateTime < threshold) return;
+            if (buffer != null) put(patientId, buffer, dateTime, sgv);
+            joiner.add(dateTime + ":" + sgv);
+        });
+        if (joiner.length() == 0) return;
+        redisTemplate.convertAndSend(GlucoseRingBufferListener.CHANNEL, NODE_ID + "|" + patientId + "|" + joiner);
+    }
+
+    // 버퍼를 찾기 전에 버전을 올려서, 동시에 DB 를 읽던 조회가 이 혈당 없이 버퍼를 캐시에 남기면 그 조회가 버퍼를 비우도록 함
+    // 조회가 버전을 확인한 뒤라면 버퍼가 이미 캐시에 있으므로 여기서 찾아 반영됨
+    private GlucoseRingBuffer bufferForAppend(Long patientId) {
+        versions.incrementAndGet(stripeOf(patientId));
+        return cache.getIfPresent(patientId);
+    }
+
+    private void invalidateIfChanged(Long patientId, long version) {
+        if (versionOf(patientId) != version) cache.invalidate(patientId);
+    }
+
+    private long versionOf(Long patientId) {
+        return versions.get(stripeOf(patientId));
+    }
+
+    private int stripeOf(Long patientId) {
+        return Math.floorMod(Long.hashCode(patientId), VERSION_STRIPES);
+    }
+
+    // 원시 배열이 short 이므로 범위를 벗어난 값은 버퍼에 넣지 않음(원본은 DB 에 그대로 남음)
+    private void put(Long patientId, GlucoseRingBuffer buffer, long dateTime, int sgv) {
+        if (!GlucoseRingBuffer.isStorable(sgv)) {
+            log.warn("최근 혈당 버퍼에 보관할 수 없는 혈당입니다. patientId={}, dateTime={}, sgv={}", patientId, dateTime, sgv);
+            return;
+        }
+        buffer.put(dateTime, sgv);
+    }
+
+    private Map<Long, GlucoseRingBuffer> loadAll(Set<? extends Long> patientIds) {
+        var histories = glucoseHistoryRepository.findAllByPatientIdInAndDateTimeSince(patientIds, System.currentTimeMillis() - WINDOW_MILLIS)
+                                                .stream()
+                                                .collect(Collectors.groupingBy(history -> history.getPatient()
+                                                                                                 .getId()));
+        var buffers = new HashMap<Long, GlucoseRingBuffer>();
+        for (var patientId : patientIds) {
+            var patientHistories = histories.getOrDefault(patientId, List.of());
+            var buffer = new GlucoseRingBuffer(WINDOW_MILLIS, patientHistories.size());
+            patientHistories.forEach(history -> put(patientId, buffer, history.getDateTime(), history.getSgv()));
+            buffers.put(patientId, buffer);
+        }
+        return buffers;
+    }
+
+    private GlucoseRingBuffer load(Long patientId) {
+        var histories = glucoseHistoryRepository.findAllByPatientIdAndDateTimeRange(patientId, System.currentTimeMillis() - WINDOW_MILLIS, Long.MAX_VALUE, Pageable.unpaged());
+        var buffer = new GlucoseRingBuffer(WINDOW_MILLIS, histories.size());
+        for (int i = histories.size() - 1; i >= 0; i--) {
+            var history = histories.get(i);
+            put(patientId, buffer, history.dateTime(), history.sgv());
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,147 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.glucose.dto.IngestGlucoseHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+// 업로드 본문(JSON 배열 또는 단일 객체)을 스트리밍으로 읽으며 CHUNK_SIZE 건마다 chunkHandler 로 넘김
+// 본문 크기와 관계없이 한 번에 메모리에 올라가는 측정값은 CHUNK_SIZE 건으로 제한됨
+@Component
+@RequiredArgsConstructor
+public class GlucoseUploadReader {
+    private static final int CHUNK_SIZE = 1000;
+    private static final String SGV = "sgv";
+    private static final String GZIP = "gzip";
+    private static final int MIN_SGV = 20;
+    private static final int MAX_SGV = 600;
+    private static final long MAX_DECOMPRESSED_BYTES = 64L * 1024 * 1024; // 압축 해제 후 본문 크기 한도(압축 폭탄 방지)
+    private final ObjectMapper objectMapper;
+
+    // chunkHandler 는 넘겨받은 측정값 중 실제로 저장(또는 대기열에 적재)한 개수를 반환해야 함
+    public IngestGlucoseHistoryResponse read(InputStream inputStream, String contentEncoding, String dateTimeField, ToIntFunction<Map<Long, Integer>> chunkHandler) {
+        var received = 0;
+        var written = 0;
+        var chunk = new LinkedHashMap<Long, Integer>();
+        try (var parser = objectMapper.getFactory()
+                                      .createParser(GZIP.equalsIgnoreCase(contentEncoding) ? new LimitedInputStream(new GZIPInputStream(inputStream), MAX_DECOMPRESSED_BYTES) : inputStream)) {
+            var token = parser.nextToken();
+            if (token == null) return IngestGlucoseHistoryResponse.of(0, 0);
+            if (token == JsonToken.START_OBJECT) {
+                readReading(parser, dateTimeField, chunk);
+                received++;
+            } else if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() != JsonToken.START_OBJECT) throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+                    readReading(parser, dateTimeField, chunk);
+                    received++;
+                    if (chunk.size() >= CHUNK_SIZE) {
+                        written += chunkHandler.applyAsInt(chunk);
+                        chunk = new LinkedHashMap<>();
+                    }
+                }
+            } else {
+                throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+            }
+        } catch (JsonProcessingException | ZipException exception) {
+            throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        if (!chunk.isEmpty()) written += chunkHandler.applyAsInt(chunk);
+        return IngestGlucoseHistoryResponse.of(received, received - written);
+    }
+
+    // 측정 시각과 혈당 외의 필드는 건너뛰며, 같은 측정 시각이 중복되면 마지막 값이 반영됨
+    // 혈당(sgv)이 없는 항목(채혈 측정값 mbg, 보정 cal 등)은 저장하지 않고 건너뜀
+    private void readReading(JsonParser parser, String dateTimeField, Map<Long, Integer> chunk) throws IOException {
+        Long dateTime = null;
+        Integer sgv = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var field = parser.currentName();
+            parser.nextToken();
+            if (dateTimeField.equals(field)) {
+                dateTime = readLong(parser);
+            } else if (SGV.equals(field)) {
+                sgv = readInteger(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (sgv == null) return;
+        if (dateTime == null || sgv < MIN_SGV || sgv > MAX_SGV) throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+        chunk.put(dateTime, sgv);
+    }
+
+    private Long readLong(JsonParser parser) throws IOException {
+        try {
+            return switch (parser.currentToken()) {
+                case VALUE_NUMBER_INT -> parser.getLongValue();
+                case VALUE_STRING -> Long.parseLong(parser.getText());
+                case VALUE_NULL -> null;
+                default -> throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+            };
+        } catch (NumberFormatException exception) {
+            throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+        }
+    }
+
+    private Integer readInteger(JsonParser parser) throws IOException {
+        var value = readLong(parser);
+        if (value == null) return null;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+        return value.intValue();
+    }
+
+    // 한도를 넘겨 읽으려 하면 413 으로 응답하도록 예외를 던짐
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        private LimitedInputStream(InputStream inputStream, long limit) {
+            super(inputStream);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var value = super.read();
+            if (value >= 0) count(1);
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var read = super.read(buffer, offset, length);
+            if (read > 0) count(read);
+            return read;
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            var skipped = super.skip(length);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long read) {
+            count += read;
+            if (count > limit) throw new ApplicationException(ErrorMessage.PAYLOAD_TOO_LARGE);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.member.domain.Member;
+import com.glucocare.server.feature.member.domain.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// Nightscout 호환 조회 요청마다 회원을 조회하지 않도록 환자의 접근 코드를 노드 메모리에 보관
+// 접근 코드는 가입 시점에만 정해지며, 가입과 탈퇴 시 커밋 이후에 모든 노드에서 비움
+@Component
+public class PatientAccessCodeCache {
+    private static final String CACHE_NAME = "patient.access-code";
+    private static final Long CACHE_REMAINED_MINUTES = 10L;
+    private static final Long MAX_PATIENTS = 100_000L;
+    private final Cache<Long, String> cache;
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public PatientAccessCodeCache(MemberRepository memberRepository, RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(MAX_PATIENTS)
+                             .expireAfterWrite(Duration.ofMinutes(CACHE_REMAINED_MINUTES))
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 존재하지 않는 환자는 보관하지 않아, 나중에 가입한 회원이 없는 회원으로 남지 않도록 함
+    public void validate(Long patientId, String accessCode) {
+        var expected = findAccessCode(patientId);
+        if (expected == null) throw new ApplicationException(ErrorMessage.NOT_FOUND);
+        if (!expected.equals(accessCode)) throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+    }
+
+    // 요청 한도처럼 거절 사유 없이 인증 여부만 필요할 때 사용하며, 접근 코드가 없다면 조회하지 않음
+    public boolean matches(Long patientId, String accessCode) {
+        if (accessCode == null) return false;
+        return accessCode.equals(findAccessCode(patientId));
+    }
+
+    private String findAccessCode(Long patientId) {
+        return cache.get(patientId, id -> memberRepository.findById(id)
+                                                          .map(Member::getAccessCode)
+                                                          .orElse(null));
+    }
+
+    // 커밋 전에 비우면 그 사이의 조회가 이전 값으로 다시 채울 수 있으므로, 트랜잭션이 있다면 커밋 이후에 비움
+    public void evict(Long patientId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll(patientId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll(patientId);
+            }
+        });
+    }
+
+    void evictLocal(Long patientId) {
+        cache.invalidate(patientId);
+    }
+
+    private void evictAll(Long patientId) {
+        evictLocal(patientId);
+        redisTemplate.convertAndSend(PatientAccessCodeInvalidationListener.CHANNEL, String.valueOf(patientId));
+    }
+}
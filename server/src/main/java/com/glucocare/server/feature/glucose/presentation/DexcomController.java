@@ -1,19 +1,24 @@
 package com.glucocare.server.feature.glucose.presentation;
 
 import com.glucocare.server.feature.glucose.application.DexcomCreateGlucoseHistoryUseCase;
-import com.glucocare.server.feature.glucose.dto.DexcomGlucoseRequest;
+import com.glucocare.server.feature.glucose.application.ReadNightscoutEntriesUseCase;
+import com.glucocare.server.feature.glucose.dto.IngestGlucoseHistoryResponse;
+import com.glucocare.server.feature.glucose.dto.NightscoutEntryResponse;
+import com.glucocare.server.feature.glucose.infra.GlucoseUploadReader;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 @Slf4j
@@ -22,13 +27,20 @@ import java.util.List;
 @RequestMapping("/{patientId}/api/v1")
 public class DexcomController {
     private final DexcomCreateGlucoseHistoryUseCase createGlucoseHistoryUseCase;
+    private final ReadNightscoutEntriesUseCase readNightscoutEntriesUseCase;
+    private final GlucoseUploadReader glucoseUploadReader;
 
     @PostMapping("/entries")
-    public ResponseEntity<Void> create(HttpServletRequest request, @PathVariable Long patientId, @RequestBody List<DexcomGlucoseRequest> entries) {
-        var accessCode = extractAccessCode(request);
-        createGlucoseHistoryUseCase.execute(patientId, accessCode, entries);
-        return ResponseEntity.ok()
-                             .build();
+    public ResponseEntity<IngestGlucoseHistoryResponse> create(HttpServletRequest request, @PathVariable Long patientId) throws IOException {
+        var accessCode = NightscoutAccessCode.extract(request);
+        var response = glucoseUploadReader.read(request.getInputStream(), request.getHeader(HttpHeaders.CONTENT_ENCODING), "date", readings -> createGlucoseHistoryUseCase.execute(patientId, accessCode, readings));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping({"/entries", "/entries.json", "/entries/sgv.json", "/sgv.json"})
+    public ResponseEntity<List<NightscoutEntryResponse>> readEntries(HttpServletRequest request, @PathVariable Long patientId, @RequestParam(required = false) Integer count, @RequestParam(name = "find[date][$gte]", required = false) Long since) {
+        var response = readNightscoutEntriesUseCase.execute(patientId, NightscoutAccessCode.extract(request), count, since);
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/devicestatus")
@@ -48,15 +60,4 @@ public class DexcomController {
         return ResponseEntity.noContent()
                              .build();
     }
-
-    private String extractAccessCode(HttpServletRequest request) {
-        var auth = request.getHeader("Authorization");
-        if (auth == null || !auth.startsWith("Basic ")) return null;
-
-        var base64 = auth.substring("Basic ".length());
-        var decoded = new String(java.util.Base64.getDecoder()
-                                                 .decode(base64), java.nio.charset.StandardCharsets.UTF_8);
-        var idx = decoded.indexOf(':');
-        return (decoded.indexOf(':') >= 0) ? decoded.substring(0, idx) : decoded;
-    }
 }
@@ -1,13 +1,31 @@
 package com.glucocare.server.feature.glucose.presentation;
 
 import com.glucocare.server.feature.glucose.application.CreateGlucoseHistoryUseCase;
+import com.glucocare.server.feature.glucose.application.ExportGlucoseHistoryUseCase;
 import com.glucocare.server.feature.glucose.application.PredictGlucoseUseCase;
 import com.glucocare.server.feature.glucose.application.PredictGlucoseWithExerciseUseCase;
 import com.glucocare.server.feature.glucose.application.ReadAllGlucoseHistoryUseCase;
+import com.glucocare.server.feature.glucose.application.ReadGlucoseChartUseCase;
+import com.glucocare.server.feature.glucose.application.ReadGlucoseHistoryChangesUseCase;
+import com.glucocare.server.feature.glucose.application.ReadGlucoseHistoryETagUseCase;
+import com.glucocare.server.feature.glucose.application.ReadGlucoseHistoryPageUseCase;
+import com.glucocare.server.feature.glucose.application.ReadGlucoseStatisticsUseCase;
+import com.glucocare.server.feature.glucose.application.UploadGlucoseBackfillUseCase;
+import com.glucocare.server.feature.glucose.domain.GlucoseBackfillFormat;
+import com.glucocare.server.feature.glucose.domain.GlucoseExportFormat;
+import com.glucocare.server.feature.glucose.domain.GlucoseRollupPeriod;
 import com.glucocare.server.feature.glucose.dto.CreateGlucoseHistoryRequest;
+import com.glucocare.server.feature.glucose.dto.IngestGlucoseHistoryResponse;
 import com.glucocare.server.feature.glucose.dto.PredictGlucoseResponse;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryChangesResponse;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryPageResponse;
 import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseStatisticsResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,7 +34,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.ZoneId;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -25,13 +47,67 @@ import java.util.List;
 public class GlucoseHistoryController {
 
     private final ReadAllGlucoseHistoryUseCase readAllGlucoseHistoryUseCase;
+    private final ReadGlucoseHistoryPageUseCase readGlucoseHistoryPageUseCase;
+    private final ReadGlucoseChartUseCase readGlucoseChartUseCase;
+    private final ReadGlucoseHistoryChangesUseCase readGlucoseHistoryChangesUseCase;
+    private final ReadGlucoseStatisticsUseCase readGlucoseStatisticsUseCase;
+    private final ExportGlucoseHistoryUseCase exportGlucoseHistoryUseCase;
+    private final ReadGlucoseHistoryETagUseCase readGlucoseHistoryETagUseCase;
     private final CreateGlucoseHistoryUseCase createGlucoseHistoryUseCase;
+    private final UploadGlucoseBackfillUseCase uploadGlucoseBackfillUseCase;
     private final PredictGlucoseUseCase predictGlucoseUseCase;
     private final PredictGlucoseWithExerciseUseCase predictGlucoseWithExerciseUseCase;
 
     @GetMapping
-    public ResponseEntity<List<ReadGlucoseHistoryResponse>> readAll(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId) {
+    public ResponseEntity<List<ReadGlucoseHistoryResponse>> readAll(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, WebRequest webRequest) {
+        var eTag = readGlucoseHistoryETagUseCase.execute(memberId, careRelationId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                 .build();
+        }
         var response = readAllGlucoseHistoryUseCase.execute(memberId, careRelationId);
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .body(response);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<ReadGlucoseHistoryPageResponse> readPage(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, @RequestParam(required = false) Long from, @RequestParam(required = false) Long to, @RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer limit) {
+        var response = readGlucoseHistoryPageUseCase.execute(memberId, careRelationId, from, to, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/chart")
+    public ResponseEntity<List<ReadGlucoseHistoryResponse>> readChart(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, @RequestParam(required = false) Long from, @RequestParam(required = false) Long to, @RequestParam(required = false) Integer maxPoints) {
+        var response = readGlucoseChartUseCase.execute(memberId, careRelationId, from, to, maxPoints);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ReadGlucoseHistoryChangesResponse> readChanges(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, @RequestParam(required = false) Long since) {
+        var response = readGlucoseHistoryChangesUseCase.execute(memberId, careRelationId, since);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/statistics")
+    public ResponseEntity<List<ReadGlucoseStatisticsResponse>> readStatistics(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, @RequestParam(required = false) GlucoseRollupPeriod period, @RequestParam(required = false) Long from, @RequestParam(required = false) Long to) {
+        var response = readGlucoseStatisticsUseCase.execute(memberId, careRelationId, period, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, @RequestParam(defaultValue = "NDJSON") GlucoseExportFormat format) {
+        var response = exportGlucoseHistoryUseCase.execute(memberId, careRelationId, format);
+        return ResponseEntity.ok()
+                             .contentType(MediaType.parseMediaType(format.getContentType()))
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"glucose-history." + format.getExtension() + "\"")
+                             .body(response);
+    }
+
+    // 본문은 제조사 앱에서 내보낸 CSV 그대로이며, Content-Encoding: gzip 도 허용
+    @PostMapping("/backfill")
+    public ResponseEntity<IngestGlucoseHistoryResponse> backfill(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, @RequestParam GlucoseBackfillFormat format, @RequestParam(defaultValue = "Asia/Seoul") ZoneId zone, HttpServletRequest request) throws IOException {
+        var response = uploadGlucoseBackfillUseCase.execute(memberId, careRelationId, format, zone, request.getInputStream(), request.getHeader(HttpHeaders.CONTENT_ENCODING));
         return ResponseEntity.ok(response);
     }
 
@@ -43,14 +119,28 @@ public class GlucoseHistoryController {
     }
 
     @GetMapping("/predict")
-    public ResponseEntity<List<PredictGlucoseResponse>> predict(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId) {
+    public ResponseEntity<List<PredictGlucoseResponse>> predict(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, WebRequest webRequest) {
+        var eTag = readGlucoseHistoryETagUseCase.execute(memberId, careRelationId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                 .build();
+        }
         var response = predictGlucoseUseCase.execute(memberId, careRelationId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .body(response);
     }
 
     @GetMapping("/predict/exercise")
-    public ResponseEntity<List<PredictGlucoseResponse>> predictExercise(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, @RequestParam Double met, @RequestParam Integer duration) {
+    public ResponseEntity<List<PredictGlucoseResponse>> predictExercise(@AuthenticationPrincipal Long memberId, @RequestParam Long careRelationId, @RequestParam Double met, @RequestParam Integer duration, WebRequest webRequest) {
+        var eTag = readGlucoseHistoryETagUseCase.execute(memberId, careRelationId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                 .build();
+        }
         var response = predictGlucoseWithExerciseUseCase.execute(memberId, careRelationId, met, duration);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .body(response);
     }
 }
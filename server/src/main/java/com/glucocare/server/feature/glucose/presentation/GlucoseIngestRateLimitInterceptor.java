@@ -0,0 +1,49 @@
+package com.glucocare.server.feature.glucose.presentation;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.exception.RateLimitExceededException;
+import com.glucocare.server.feature.glucose.infra.GlucoseIngestRateLimiter;
+import com.glucocare.server.feature.glucose.infra.PatientAccessCodeCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+// 인증 없이 열려 있는 Nightscout 호환 경로(/{patientId}/api/v1/**)에 환자별(접근 코드가 맞지 않으면 클라이언트 주소별), 전체 요청 한도를 적용
+@Component
+@RequiredArgsConstructor
+public class GlucoseIngestRateLimitInterceptor implements HandlerInterceptor {
+    public static final String PATH_PATTERN = "/{patientId}/api/v1/**";
+    private final GlucoseIngestRateLimiter glucoseIngestRateLimiter;
+    private final PatientAccessCodeCache patientAccessCodeCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        @SuppressWarnings("unchecked")
+        var variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || !variables.containsKey("patientId")) return true;
+
+        // 임의의 문자열로 Redis 키가 만들어지지 않도록 숫자로 해석되는 환자 id 만 받음
+        Long patientId;
+        try {
+            patientId = Long.parseLong(variables.get("patientId"));
+        } catch (NumberFormatException exception) {
+            throw new ApplicationException(ErrorMessage.BAD_REQUEST);
+        }
+        var write = !HttpMethod.GET.matches(request.getMethod());
+        // 접근 코드를 먼저 확인하여, 인증된 요청만 환자 버킷을 차감하고 나머지는 클라이언트 주소별 버킷을 차감
+        var retryAfter = patientAccessCodeCache.matches(patientId, NightscoutAccessCode.extract(request))
+                ? glucoseIngestRateLimiter.tryAcquire(patientId, write)
+                : glucoseIngestRateLimiter.tryAcquireUnauthenticated(request.getRemoteAddr(), write);
+        retryAfter.ifPresent(retryAfterSeconds -> {
+            throw new RateLimitExceededException(retryAfterSeconds);
+        });
+        return true;
+    }
+}
@@ -1,17 +1,19 @@
 package com.glucocare.server.feature.glucose.presentation;
 
 import com.glucocare.server.feature.glucose.application.HealthUploadGlucoseHistoryUseCase;
-import com.glucocare.server.feature.glucose.dto.HealthGlucoseRequest;
+import com.glucocare.server.feature.glucose.dto.IngestGlucoseHistoryResponse;
+import com.glucocare.server.feature.glucose.infra.GlucoseUploadReader;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.io.IOException;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -19,11 +21,11 @@ import java.util.List;
 @RequestMapping("/api/health")
 public class HealthController {
     private final HealthUploadGlucoseHistoryUseCase createGlucoseHistoryUseCase;
+    private final GlucoseUploadReader glucoseUploadReader;
 
     @PostMapping
-    public ResponseEntity<Void> create(@AuthenticationPrincipal Long memberId, @RequestBody List<HealthGlucoseRequest> glucoseRequestList) {
-        createGlucoseHistoryUseCase.execute(memberId, glucoseRequestList);
-        return ResponseEntity.ok()
-                             .build();
+    public ResponseEntity<IngestGlucoseHistoryResponse> create(@AuthenticationPrincipal Long memberId, HttpServletRequest request) throws IOException {
+        var response = glucoseUploadReader.read(request.getInputStream(), request.getHeader(HttpHeaders.CONTENT_ENCODING), "dateTime", readings -> createGlucoseHistoryUseCase.execute(memberId, readings));
+        return ResponseEntity.ok(response);
     }
 }
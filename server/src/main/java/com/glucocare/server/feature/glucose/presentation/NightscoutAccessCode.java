@@ -0,0 +1,29 @@
+package com.glucocare.server.feature.glucose.presentation;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Nightscout 클라이언트가 Basic 인증의 사용자 이름 자리에 담아 보내는 접근 코드를 꺼냄
+final class NightscoutAccessCode {
+
+    private NightscoutAccessCode() {
+    }
+
+    // 헤더가 없거나 Base64 로 해석되지 않으면 null 을 반환하며, 접근 코드 검증에서 거절됨
+    static String extract(HttpServletRequest request) {
+        var auth = request.getHeader("Authorization");
+        if (auth == null || !auth.startsWith("Basic ")) return null;
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getDecoder()
+                                       .decode(auth.substring("Basic ".length())), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+        var idx = decoded.indexOf(':');
+        return (idx >= 0) ? decoded.substring(0, idx) : decoded;
+    }
+}
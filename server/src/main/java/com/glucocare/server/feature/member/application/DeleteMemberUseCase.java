@@ -2,7 +2,12 @@ package com.glucocare.server.feature.member.application;
 
 import com.glucocare.server.exception.ApplicationException;
 import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.care.infra.CareRelationCache;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.infra.PatientAccessCodeCache;
 import com.glucocare.server.feature.member.domain.MemberRepository;
+import com.glucocare.server.feature.notification.domain.GlucoseWarningNotificationHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,10 +17,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class DeleteMemberUseCase {
     private final MemberRepository memberRepository;
+    private final CareRelationRepository careRelationRepository;
+    private final CareRelationCache careRelationCache;
+    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseWarningNotificationHistoryRepository glucoseWarningNotificationHistoryRepository;
+    private final PatientAccessCodeCache patientAccessCodeCache;
 
     public void execute(Long memberId) {
         var member = memberRepository.findById(memberId)
                                      .orElseThrow(() -> new ApplicationException(ErrorMessage.NOT_FOUND));
+        // glucose_history 가 파티션 테이블로 전환되면 외래 키의 ON DELETE CASCADE 를 사용할 수 없으므로 직접 삭제
+        glucoseWarningNotificationHistoryRepository.deleteAllByPatientId(memberId);
+        glucoseHistoryRepository.deleteAllByPatientId(memberId);
+        // 보호 관계는 외래 키로 함께 삭제되므로, 캐시에 남지 않도록 삭제 전에 id 를 모아서 비움
+        careRelationRepository.findAllByMemberIdOrPatientId(memberId, memberId)
+                              .forEach(careRelation -> careRelationCache.evict(careRelation.getId()));
         memberRepository.delete(member);
+        patientAccessCodeCache.evict(memberId);
     }
 }
@@ -1,13 +1,20 @@
 package com.glucocare.server.feature.member.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findAllByIsPatientTrue();
 
+    // 알림 파티션(id 를 partitionCount 로 나눈 나머지)이 partitions 에 속한 환자만 조회
+    @Query("SELECT m FROM Member m WHERE m.isPatient = true AND MOD(m.id, :partitionCount) IN :partitions")
+    List<Member> findAllPatientsByPartitionIn(@Param("partitionCount") Integer partitionCount, @Param("partitions") Collection<Integer> partitions);
+
     Optional<Member> findByEmail(String email);
 
     Boolean existsByEmail(String email);
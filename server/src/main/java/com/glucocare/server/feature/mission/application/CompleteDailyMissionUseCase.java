@@ -2,8 +2,8 @@ package com.glucocare.server.feature.mission.application;
 
 import com.glucocare.server.exception.ApplicationException;
 import com.glucocare.server.exception.ErrorMessage;
-import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
-import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
+import com.glucocare.server.feature.glucose.infra.GlucoseRingBufferStore;
 import com.glucocare.server.feature.member.domain.Member;
 import com.glucocare.server.feature.member.domain.MemberRepository;
 import com.glucocare.server.feature.mission.domain.MemberDailyMission;
@@ -21,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.List;
 
 @Slf4j
 @Service
@@ -33,7 +32,7 @@ public class CompleteDailyMissionUseCase {
 
     private final MemberRepository memberRepository;
     private final MemberDailyMissionRepository memberDailyMissionRepository;
-    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
     private final PointWalletRepository pointWalletRepository;
     private final PointHistoryRepository pointHistoryRepository;
     private final MissionValidator missionValidator;
@@ -54,7 +53,8 @@ public class CompleteDailyMissionUseCase {
         }
     }
 
-    private List<GlucoseHistory> getTodayRecords(Member member, LocalDate date) {
+    // 오늘 하루는 항상 최근 24시간 안에 있으므로 최근 혈당 버퍼만으로 조회
+    private GlucoseWindow getTodayRecords(Member member, LocalDate date) {
         var start = date.atStartOfDay(ZONE)
                         .toInstant()
                         .toEpochMilli();
@@ -62,7 +62,8 @@ public class CompleteDailyMissionUseCase {
                       .atStartOfDay(ZONE)
                       .toInstant()
                       .toEpochMilli();
-        return glucoseHistoryRepository.findByPatientAndDateTimeBetweenOrderByDateTimeAsc(member, start, end);
+        return glucoseRingBufferStore.findRecentByPatientId(member.getId(), start)
+                                     .between(start, end);
     }
 
     private void earnPoint(Member member, PointWallet pointWallet, MemberDailyMission dailyMission) {
@@ -2,8 +2,8 @@ package com.glucocare.server.feature.mission.application;
 
 import com.glucocare.server.exception.ApplicationException;
 import com.glucocare.server.exception.ErrorMessage;
-import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
-import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
+import com.glucocare.server.feature.glucose.infra.GlucoseRingBufferStore;
 import com.glucocare.server.feature.member.domain.Member;
 import com.glucocare.server.feature.member.domain.MemberRepository;
 import com.glucocare.server.feature.mission.domain.MemberDailyMission;
@@ -30,7 +30,7 @@ public class ReadTodayDailyMissionUseCase {
     private final MemberRepository memberRepository;
     private final MissionRepository missionRepository;
     private final MemberDailyMissionRepository memberDailyMissionRepository;
-    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final GlucoseRingBufferStore glucoseRingBufferStore;
     private final MissionProgressCalculator missionProgressCalculator;
     private final MissionValidator missionValidator;
 
@@ -58,7 +58,8 @@ public class ReadTodayDailyMissionUseCase {
         return dailyMissions;
     }
 
-    private List<GlucoseHistory> getTodayRecords(Member member, LocalDate date) {
+    // 오늘 하루는 항상 최근 24시간 안에 있으므로 최근 혈당 버퍼만으로 조회
+    private GlucoseWindow getTodayRecords(Member member, LocalDate date) {
         var start = date.atStartOfDay(ZONE)
                         .toInstant()
                         .toEpochMilli();
@@ -66,6 +67,7 @@ public class ReadTodayDailyMissionUseCase {
                       .atStartOfDay(ZONE)
                       .toInstant()
                       .toEpochMilli();
-        return glucoseHistoryRepository.findByPatientAndDateTimeBetweenOrderByDateTimeAsc(member, start, end);
+        return glucoseRingBufferStore.findRecentByPatientId(member.getId(), start)
+                                     .between(start, end);
     }
 }
@@ -1,12 +1,11 @@
 package com.glucocare.server.feature.mission.domain;
 
-import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.util.List;
 
 @Component
 public class MissionValidator {
@@ -17,7 +16,7 @@ public class MissionValidator {
     private static final LocalTime MORNING_START = LocalTime.of(8, 0);
     private static final LocalTime MORNING_END = LocalTime.of(12, 0);
 
-    public Boolean validate(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    public Boolean validate(MemberDailyMission dailyMission, GlucoseWindow records) {
         switch (dailyMission.getMission()
                             .getMissionType()) {
             case TIME_IN_RANGE -> {
@@ -41,36 +40,32 @@ public class MissionValidator {
         }
     }
 
-    private Boolean validateTimeInRange(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    private Boolean validateTimeInRange(MemberDailyMission dailyMission, GlucoseWindow records) {
         if (!canValidateTimeInRange(dailyMission, records)) return false;
-        var ratio = records.stream()
-                           .filter(g -> g.getSgv() >= HYPO && g.getSgv() <= HYPER)
-                           .count() * 100.0 / records.size();
+        var ratio = records.countBetween(HYPO, HYPER) * 100.0 / records.size();
         return ratio >= dailyMission.getMission()
                                     .getThreshold();
     }
 
-    private Boolean validateNoHypo(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    private Boolean validateNoHypo(MemberDailyMission dailyMission, GlucoseWindow records) {
         if (!canValidate(dailyMission, records)) return false;
-        if (records.stream()
-                   .anyMatch(glucose -> glucose.getSgv() < HYPO)) {
+        if (records.countBetween(Integer.MIN_VALUE, HYPO - 1) > 0) {
             dailyMission.fail();
             return false;
         }
         return true;
     }
 
-    private Boolean validateNoHyper(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    private Boolean validateNoHyper(MemberDailyMission dailyMission, GlucoseWindow records) {
         if (!canValidate(dailyMission, records)) return false;
-        if (records.stream()
-                   .anyMatch(glucose -> glucose.getSgv() > HYPER)) {
+        if (records.countBetween(HYPER + 1, Integer.MAX_VALUE) > 0) {
             dailyMission.fail();
             return false;
         }
         return true;
     }
 
-    private Boolean validateGoodMorning(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    private Boolean validateGoodMorning(MemberDailyMission dailyMission, GlucoseWindow records) {
         var today = LocalDate.now(ZONE);
         var morningStart = today.atTime(MORNING_START)
                                 .atZone(ZONE)
@@ -81,32 +76,21 @@ public class MissionValidator {
                               .toInstant()
                               .toEpochMilli();
 
-        var morning = records.stream()
-                             .filter(g -> g.getDateTime() >= morningStart && g.getDateTime() < morningEnd)
-                             .toList();
+        var morning = records.between(morningStart, morningEnd);
 
         if (!canValidateGoodMorning(dailyMission, morning)) return false;
 
-        return morning.stream()
-                      .noneMatch(g -> g.getSgv() < HYPO || g.getSgv() > HYPER);
+        return morning.countBetween(HYPO, HYPER) == morning.size();
     }
 
-    private Boolean validateGlucoseCV(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    private Boolean validateGlucoseCV(MemberDailyMission dailyMission, GlucoseWindow records) {
         if (!canValidate(dailyMission, records)) return false;
-        var mean = records.stream()
-                          .mapToInt(GlucoseHistory::getSgv)
-                          .average()
-                          .orElse(0);
-        var std = Math.sqrt(records.stream()
-                                   .mapToDouble(g -> Math.pow(g.getSgv() - mean, 2))
-                                   .average()
-                                   .orElse(0));
-        var cv = (std / mean) * 100.0;
+        var cv = (records.standardDeviation() / records.mean()) * 100.0;
         return cv <= dailyMission.getMission()
                                  .getThreshold();
     }
 
-    private Boolean canValidateTimeInRange(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    private Boolean canValidateTimeInRange(MemberDailyMission dailyMission, GlucoseWindow records) {
         if (dailyMission.getIsFailed()) return false;
         if (!LocalTime.now(ZONE)
                       .isAfter(LocalTime.of(18, 0))) {
@@ -115,12 +99,12 @@ public class MissionValidator {
         return records.size() >= 100;
     }
 
-    private Boolean canValidate(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    private Boolean canValidate(MemberDailyMission dailyMission, GlucoseWindow records) {
         if (dailyMission.getIsFailed()) return false;
         return records.size() >= 100;
     }
 
-    private Boolean canValidateGoodMorning(MemberDailyMission dailyMission, List<GlucoseHistory> records) {
+    private Boolean canValidateGoodMorning(MemberDailyMission dailyMission, GlucoseWindow records) {
         if (dailyMission.getIsFailed()) return false;
         return records.size() >= 30;
     }
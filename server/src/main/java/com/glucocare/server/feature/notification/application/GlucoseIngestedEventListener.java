@@ -0,0 +1,20 @@
+package com.glucocare.server.feature.notification.application;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseIngestedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 혈당이 커밋된 직후 해당 환자의 보호자들에 대해서만 알림 조건을 확인하며, 업로드 응답을 늦추지 않도록 별도 스레드에서 처리
+@Component
+@RequiredArgsConstructor
+public class GlucoseIngestedEventListener {
+    private final SendGlucoseWarningAlertUseCase sendGlucoseWarningAlertUseCase;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(GlucoseIngestedEvent event) {
+        sendGlucoseWarningAlertUseCase.execute(event.patientId());
+    }
+}
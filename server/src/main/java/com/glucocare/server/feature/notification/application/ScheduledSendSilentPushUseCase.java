@@ -2,6 +2,7 @@ package com.glucocare.server.feature.notification.application;
 
 import com.glucocare.server.client.FcmClient;
 import com.glucocare.server.feature.notification.domain.FcmTokenRepository;
+import com.glucocare.server.feature.notification.infra.NotificationPartitionCoordinator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -14,10 +15,19 @@ public class ScheduledSendSilentPushUseCase {
 
     private final FcmClient fcmClient;
     private final FcmTokenRepository fcmTokenRepository;
+    private final NotificationPartitionCoordinator notificationPartitionCoordinator;
 
+    // 노드마다 리스를 가진 파티션의 회원에게만 보내므로 같은 기기가 여러 노드에서 중복으로 받지 않음
     @Scheduled(fixedDelay = 300000)
     public void execute() {
-        var tokens = fcmTokenRepository.findAll();
+        var partitions = notificationPartitionCoordinator.ownedPartitions();
+        if (partitions.isEmpty()) return;
+        // 조회하는 동안 리스를 잃었을 수 있으므로 보내기 직전에 담당 여부를 다시 확인
+        var tokens = fcmTokenRepository.findAllByMemberPartitionIn(notificationPartitionCoordinator.getPartitionCount(), partitions)
+                                       .stream()
+                                       .filter(fcmToken -> notificationPartitionCoordinator.owns(fcmToken.getMember()
+                                                                                                         .getId()))
+                                       .toList();
         if (tokens.isEmpty()) return;
         fcmClient.sendSilentSyncMessages(tokens);
     }
@@ -0,0 +1,122 @@
+package com.glucocare.server.feature.notification.application;
+
+import com.glucocare.server.client.FcmClient;
+import com.glucocare.server.feature.care.domain.CareRelation;
+import com.glucocare.server.feature.care.domain.CareRelationRepository;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
+import com.glucocare.server.feature.glucose.domain.GlucoseHistoryRepository;
+import com.glucocare.server.feature.member.domain.Member;
+import com.glucocare.server.feature.member.domain.MemberRepository;
+import com.glucocare.server.feature.notification.domain.FcmToken;
+import com.glucocare.server.feature.notification.domain.FcmTokenRepository;
+import com.glucocare.server.feature.notification.domain.GlucoseWarningNotificationHistoryBulkRepository;
+import com.glucocare.server.feature.notification.domain.GlucoseWarningNotificationHistoryRepository;
+import com.glucocare.server.feature.notification.domain.GlucoseWarningType;
+import com.glucocare.server.feature.notification.domain.NotificationOutboxBulkRepository;
+import com.glucocare.server.feature.notification.domain.NotificationOutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SendGlucoseWarningAlertUseCase {
+
+    private final FcmClient fcmClient;
+    private final MemberRepository memberRepository;
+    private final CareRelationRepository careRelationRepository;
+    private final GlucoseHistoryRepository glucoseHistoryRepository;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final GlucoseWarningNotificationHistoryRepository glucoseWarningNotificationHistoryRepository;
+    private final GlucoseWarningNotificationHistoryBulkRepository glucoseWarningNotificationHistoryBulkRepository;
+    private final NotificationOutboxBulkRepository notificationOutboxBulkRepository;
+
+    // 한 환자의 최신 혈당을 그 환자의 보호자들에 대해서만 확인
+    public void execute(Long patientId) {
+        memberRepository.findById(patientId)
+                        .ifPresent(patient -> executeAll(List.of(patient)));
+    }
+
+    // 보호 관계(보호자, 환자, 알림 정책 포함), 최신 혈당, FCM 토큰, 이미 보낸 알림을 각각 한 번에 조회하므로
+    // 보호 관계 수와 관계없이 조회 횟수가 일정하며, 보호 관계마다 늘어나는 것은 실제로 보낸 알림의 저장뿐임
+    // 보낼 알림은 알림 이력과 같은 트랜잭션에서 알림 보관함에 기록하며, 전송은 NotificationOutboxDispatcher 가 따로 수행
+    public void executeAll(List<Member> patients) {
+        if (patients.isEmpty()) return;
+        var careRelations = careRelationRepository.findAllWithMemberAndPolicyByPatientIn(patients);
+        if (careRelations.isEmpty()) return;
+        var latestByPatientId = glucoseHistoryRepository.findLatestByPatient(patients)
+                                                        .stream()
+                                                        .collect(Collectors.toMap(glucoseHistory -> glucoseHistory.getPatient()
+                                                                                                                  .getId(), Function.identity(), (first, second) -> first));
+        if (latestByPatientId.isEmpty()) return;
+
+        var fcmTokenByMemberId = readFcmTokens(careRelations);
+        var notified = readNotified(latestByPatientId.values());
+        var messages = new ArrayList<NotificationOutboxMessage>();
+        for (var careRelation : careRelations) {
+            var glucoseHistory = latestByPatientId.get(careRelation.getPatient()
+                                                                   .getId());
+            if (glucoseHistory == null || careRelation.getGlucoseAlertPolicy() == null) continue;
+            var member = careRelation.getMember();
+            if (!fcmTokenByMemberId.containsKey(member.getId())) continue; // 토큰 없을 경우 알림을 보낼 수 없음
+            if (notified.contains(notifiedKey(member.getId(), glucoseHistory.getPatient()
+                                                                            .getId(), glucoseHistory.getDateTime()))) continue; // 이미 해당 혈당에 대한 알림을 보냈을 경우 다시 보낼 수 없음
+            createGlucoseWarningAlert(careRelation, glucoseHistory).ifPresent(messages::add);
+        }
+        notificationOutboxBulkRepository.enqueueAll(messages);
+    }
+
+    private Optional<NotificationOutboxMessage> createGlucoseWarningAlert(CareRelation careRelation, GlucoseHistory glucoseHistory) {
+        var warningType = GlucoseWarningType.from(glucoseHistory.getSgv(), careRelation.getGlucoseAlertPolicy());
+        if (!warningType.isNeedSendNotification()) return Optional.empty();
+        var member = careRelation.getMember();
+        var patientId = glucoseHistory.getPatient()
+                                      .getId();
+        // 저장 시점 알림과 전체 확인이 동시에 같은 혈당을 판단하더라도, 이력 기록에 성공한 쪽만 알림을 보냄
+        if (!glucoseWarningNotificationHistoryBulkRepository.reserve(member.getId(), patientId, glucoseHistory.getDateTime(), warningType)) return Optional.empty();
+        // 같은 보호자, 같은 혈당에 대한 알림은 한 번만 기록되고 기기에서도 하나로 합쳐지도록 같은 키를 사용
+        var idempotencyKey = "glucose-warning:" + notifiedKey(member.getId(), patientId, glucoseHistory.getDateTime());
+        return Optional.of(NotificationOutboxMessage.of(member.getId(), idempotencyKey, fcmClient.createGlucoseWarningTitle(warningType), fcmClient.createGlucoseWarningBody(careRelation, glucoseHistory, warningType)));
+    }
+
+    private Map<Long, FcmToken> readFcmTokens(List<CareRelation> careRelations) {
+        var members = careRelations.stream()
+                                   .map(CareRelation::getMember)
+                                   .distinct()
+                                   .toList();
+        return fcmTokenRepository.findAllByMemberIn(members)
+                                 .stream()
+                                 .collect(Collectors.toMap(fcmToken -> fcmToken.getMember()
+                                                                               .getId(), Function.identity(), (first, second) -> first));
+    }
+
+    private Set<String> readNotified(Collection<GlucoseHistory> glucoseHistories) {
+        var patientIds = glucoseHistories.stream()
+                                         .map(glucoseHistory -> glucoseHistory.getPatient()
+                                                                              .getId())
+                                         .collect(Collectors.toSet());
+        var dateTimes = glucoseHistories.stream()
+                                        .map(GlucoseHistory::getDateTime)
+                                        .collect(Collectors.toSet());
+        return glucoseWarningNotificationHistoryRepository.findAllByPatientIdInAndGlucoseDateTimeIn(patientIds, dateTimes)
+                                                          .stream()
+                                                          .map(notification -> notifiedKey(notification.getMember()
+                                                                                                        .getId(), notification.getPatient()
+                                                                                                                              .getId(), notification.getGlucoseDateTime()))
+                                                          .collect(Collectors.toSet());
+    }
+
+    private String notifiedKey(Long memberId, Long patientId, Long glucoseDateTime) {
+        return memberId + ":" + patientId + ":" + glucoseDateTime;
+    }
+}
@@ -2,12 +2,24 @@ package com.glucocare.server.feature.notification.domain;
 
 import com.glucocare.server.feature.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     Optional<FcmToken> findByMember(Member member);
 
     Boolean existsByMember(Member member);
+
+    List<FcmToken> findAllByMemberIn(List<Member> members);
+
+    List<FcmToken> findAllByMemberIdIn(Collection<Long> memberIds);
+
+    // 알림 파티션(회원 id 를 partitionCount 로 나눈 나머지)이 partitions 에 속한 회원의 토큰만 조회
+    @Query("SELECT ft FROM FcmToken ft JOIN FETCH ft.member m WHERE MOD(m.id, :partitionCount) IN :partitions")
+    List<FcmToken> findAllByMemberPartitionIn(@Param("partitionCount") Integer partitionCount, @Param("partitions") Collection<Integer> partitions);
 }
 
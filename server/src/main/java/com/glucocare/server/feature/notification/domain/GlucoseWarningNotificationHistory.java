@@ -8,16 +8,29 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import static jakarta.persistence.FetchType.LAZY;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "glucose_warning_notification_history")
+@Table(
+        name = "glucose_warning_notification_history",
+        // 같은 보호자에게 같은 혈당에 대한 알림은 한 번만 기록되며, 먼저 기록에 성공한 쪽만 알림을 보냄
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_glucose_warning_notification_member_patient_datetime",
+                columnNames = {"member_id", "patient_id", "glucose_date_time"}
+        ),
+        indexes = @Index(
+                name = "idx_glucose_warning_notification_patient_datetime",
+                columnList = "patient_id, glucose_date_time"
+        )
+)
 @Getter
 public class GlucoseWarningNotificationHistory extends BaseEntity {
     @NotNull
@@ -25,11 +38,15 @@ public class GlucoseWarningNotificationHistory extends BaseEntity {
     @JoinColumn(name = "member_id")
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Member member;
+    // 혈당은 (환자, 측정 시각)으로 가리키므로, 원본 행이 압축 보관되거나 파티션과 함께 정리되어도 알림 이력은 남음
     @NotNull
     @ManyToOne(fetch = LAZY)
-    @JoinColumn(name = "glucose_history_id")
+    @JoinColumn(name = "patient_id")
     @OnDelete(action = OnDeleteAction.CASCADE)
-    private GlucoseHistory glucoseHistory;
+    private Member patient;
+    @NotNull
+    @Column(name = "glucose_date_time")
+    private Long glucoseDateTime;
     @NotNull
     @Enumerated(value = EnumType.STRING)
     @Column(name = "glucose_warning_type")
@@ -40,7 +57,8 @@ public class GlucoseWarningNotificationHistory extends BaseEntity {
 
     public GlucoseWarningNotificationHistory(Member member, GlucoseHistory glucoseHistory, GlucoseWarningType glucoseWarningType) {
         this.member = member;
-        this.glucoseHistory = glucoseHistory;
+        this.patient = glucoseHistory.getPatient();
+        this.glucoseDateTime = glucoseHistory.getDateTime();
         this.glucoseWarningType = glucoseWarningType;
     }
 }
@@ -0,0 +1,33 @@
+package com.glucocare.server.feature.notification.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Repository
+@RequiredArgsConstructor
+public class GlucoseWarningNotificationHistoryBulkRepository {
+
+    private static final String RESERVE_SQL = """
+                                              INSERT INTO glucose_warning_notification_history (member_id, patient_id, glucose_date_time, glucose_warning_type, created_at, last_modified_at)
+                                              VALUES (?, ?, ?, ?, ?, ?)
+                                              """;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final JdbcTemplate jdbcTemplate;
+
+    // 알림 이력을 먼저 기록하여 알림을 보낼 권한을 얻으며, 이미 기록되어 있다면(다른 노드나 전체 확인이 먼저 기록한 경우) false 를 반환
+    // 중복 키 오류는 해당 문장만 되돌리므로 같은 트랜잭션의 나머지 기록에는 영향이 없음
+    public boolean reserve(Long memberId, Long patientId, Long glucoseDateTime, GlucoseWarningType glucoseWarningType) {
+        var now = Timestamp.valueOf(LocalDateTime.now(ZONE));
+        try {
+            return jdbcTemplate.update(RESERVE_SQL, memberId, patientId, glucoseDateTime, glucoseWarningType.name(), now, now) > 0;
+        } catch (DuplicateKeyException exception) {
+            return false;
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.glucocare.server.feature.notification.domain;
 
-import com.glucocare.server.feature.glucose.domain.GlucoseHistory;
-import com.glucocare.server.feature.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface GlucoseWarningNotificationHistoryRepository extends JpaRepository<GlucoseWarningNotificationHistory, Long> {
-    Boolean existsByMemberAndGlucoseHistory(Member member, GlucoseHistory glucoseHistory);
+    // 환자 목록과 측정 시각 목록의 조합으로 조회하므로, 호출하는 쪽에서 (환자, 측정 시각) 쌍으로 다시 걸러야 함
+    List<GlucoseWarningNotificationHistory> findAllByPatientIdInAndGlucoseDateTimeIn(Collection<Long> patientIds, Collection<Long> glucoseDateTimes);
+
+    @Modifying
+    @Query("DELETE FROM GlucoseWarningNotificationHistory gwnh WHERE gwnh.patient.id = :patientId")
+    void deleteAllByPatientId(@Param("patientId") Long patientId);
 }
 
@@ -0,0 +1,73 @@
+package com.glucocare.server.feature.notification.domain;
+
+import com.glucocare.server.feature.member.domain.Member;
+import com.glucocare.server.shared.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import static jakarta.persistence.FetchType.LAZY;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 알림 판단과 같은 트랜잭션에서 기록되는 보낼 알림으로, NotificationOutboxDispatcher 가 꺼내어 전송
+// 같은 알림(idempotency_key)은 한 번만 기록되며, 전송에 계속 실패하면 DEAD 로 남겨 원인을 확인할 수 있도록 함
+@Entity
+@Table(
+        name = "notification_outbox",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_notification_outbox_idempotency_key",
+                columnNames = {"idempotency_key"}
+        ),
+        indexes = {
+                @Index(
+                        name = "idx_notification_outbox_status_next_attempt",
+                        columnList = "status, next_attempt_at"
+                ),
+                @Index(
+                        name = "idx_notification_outbox_claim_token",
+                        columnList = "claim_token"
+                )
+        }
+)
+@Getter
+public class NotificationOutbox extends BaseEntity {
+    @NotNull
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "member_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member member;
+    @NotNull
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+    @NotNull
+    @Column(name = "title")
+    private String title;
+    @NotNull
+    @Column(name = "body", length = 500)
+    private String body;
+    @NotNull
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+    @NotNull
+    @Column(name = "attempts")
+    private Integer attempts = 0;
+    @NotNull
+    @Column(name = "next_attempt_at")
+    private Long nextAttemptAt;
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    protected NotificationOutbox() {
+    }
+}
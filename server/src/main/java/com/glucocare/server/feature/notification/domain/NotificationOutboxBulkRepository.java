@@ -0,0 +1,127 @@
+package com.glucocare.server.feature.notification.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxBulkRepository {
+
+    // 같은 idempotency_key 가 이미 있다면(저장 시점 알림과 전체 확인이 동시에 판단한 경우 등) 기존 행을 그대로 둠
+    // INSERT IGNORE 와 달리 중복 키 외의 오류(값 잘림, NOT NULL 위반 등)는 경고로 바뀌지 않고 그대로 실패함
+    private static final String ENQUEUE_SQL = "INSERT INTO notification_outbox (member_id, idempotency_key, title, body, status, attempts, next_attempt_at, created_at, last_modified_at) VALUES ";
+    private static final String ENQUEUE_VALUES_SQL = "(?, ?, ?, ?, 'PENDING', 0, ?, ?, ?)";
+    private static final String ENQUEUE_DUPLICATE_SQL = " ON DUPLICATE KEY UPDATE id = id";
+    // 단일 UPDATE 로 꺼내므로 여러 노드가 동시에 꺼내도 같은 알림을 나누어 가지지 않음
+    // 꺼낸 알림은 claimedUntil 까지 다시 꺼내지지 않으며, 그 전에 결과가 기록되지 않으면(노드 종료 등) 다시 전송됨
+    private static final String CLAIM_SQL = """
+                                            UPDATE notification_outbox
+                                            SET claim_token = ?, attempts = attempts + 1, next_attempt_at = ?, last_modified_at = ?
+                                            WHERE status = 'PENDING'
+                                            AND next_attempt_at <= ?
+                                            ORDER BY next_attempt_at
+                                            LIMIT ?
+                                            """;
+    private static final String CLAIMED_SQL = """
+                                              SELECT id, member_id, idempotency_key, title, body, attempts
+                                              FROM notification_outbox
+                                              WHERE claim_token = ?
+                                              AND status = 'PENDING'
+                                              """;
+    // 결과는 꺼낼 때의 claim_token 이 그대로일 때만 기록하여, CLAIM_TIMEOUT 이 지나 다른 노드가 다시 꺼낸 알림의 상태를 덮어쓰지 않음
+    private static final String MARK_SENT_SQL = "UPDATE notification_outbox SET status = 'SENT', claim_token = NULL, last_error = NULL, last_modified_at = ? WHERE claim_token = ? AND id IN ";
+    private static final String RESCHEDULE_SQL = "UPDATE notification_outbox SET claim_token = NULL, next_attempt_at = ?, last_error = ?, last_modified_at = ? WHERE id = ? AND claim_token = ?";
+    private static final String MARK_DEAD_SQL = "UPDATE notification_outbox SET status = 'DEAD', claim_token = NULL, last_error = ?, last_modified_at = ? WHERE id = ? AND claim_token = ?";
+    private static final String PENDING_STATS_SQL = "SELECT COUNT(*) AS pending_count, MIN(created_at) AS oldest_created_at FROM notification_outbox WHERE status = 'PENDING'";
+    private static final String PURGE_SENT_SQL = "DELETE FROM notification_outbox WHERE status = 'SENT' AND last_modified_at < ? LIMIT ?";
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int ERROR_MAX_LENGTH = 500;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final JdbcTemplate jdbcTemplate;
+
+    public void enqueueAll(List<NotificationOutboxMessage> messages) {
+        if (messages.isEmpty()) return;
+        var now = now();
+        var nextAttemptAt = System.currentTimeMillis();
+        for (int start = 0; start < messages.size(); start += ROWS_PER_STATEMENT) {
+            var chunk = messages.subList(start, Math.min(start + ROWS_PER_STATEMENT, messages.size()));
+            var values = new StringJoiner(", ");
+            var args = new ArrayList<>(chunk.size() * 7);
+            for (var message : chunk) {
+                values.add(ENQUEUE_VALUES_SQL);
+                args.add(message.memberId());
+                args.add(message.idempotencyKey());
+                args.add(message.title());
+                args.add(message.body());
+                args.add(nextAttemptAt);
+                args.add(now);
+                args.add(now);
+            }
+            jdbcTemplate.update(ENQUEUE_SQL + values + ENQUEUE_DUPLICATE_SQL, args.toArray());
+        }
+    }
+
+    public List<NotificationOutboxMessage> claim(String claimToken, int limit, long claimedUntil) {
+        var updated = jdbcTemplate.update(CLAIM_SQL, claimToken, claimedUntil, now(), System.currentTimeMillis(), limit);
+        if (updated == 0) return List.of();
+        return jdbcTemplate.query(CLAIMED_SQL, (rs, rowNum) -> new NotificationOutboxMessage(rs.getLong("id"), rs.getLong("member_id"), rs.getString("idempotency_key"), rs.getString("title"), rs.getString("body"), rs.getInt("attempts")), claimToken);
+    }
+
+    public void markSent(String claimToken, Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        var placeholders = new StringJoiner(", ", "(", ")");
+        var args = new ArrayList<>(ids.size() + 2);
+        args.add(now());
+        args.add(claimToken);
+        for (var id : ids) {
+            placeholders.add("?");
+            args.add(id);
+        }
+        jdbcTemplate.update(MARK_SENT_SQL + placeholders, args.toArray());
+    }
+
+    public void reschedule(String claimToken, Long id, long nextAttemptAt, String error) {
+        jdbcTemplate.update(RESCHEDULE_SQL, nextAttemptAt, truncate(error), now(), id, claimToken);
+    }
+
+    public void markDead(String claimToken, Long id, String error) {
+        jdbcTemplate.update(MARK_DEAD_SQL, truncate(error), now(), id, claimToken);
+    }
+
+    // 대기 중인 알림 개수와 가장 오래 기다린 알림의 기록 시각(epoch millis, 없다면 null)
+    public PendingStats findPendingStats() {
+        return jdbcTemplate.queryForObject(PENDING_STATS_SQL, (rs, rowNum) -> {
+            var oldest = rs.getTimestamp("oldest_created_at");
+            return new PendingStats(rs.getLong("pending_count"), oldest == null ? null : oldest.toLocalDateTime()
+                                                                                              .atZone(ZONE)
+                                                                                              .toInstant()
+                                                                                              .toEpochMilli());
+        });
+    }
+
+    // 한 번에 많이 지워 잠금을 오래 잡지 않도록 limit 건씩 지우며, 지운 개수를 반환
+    public int purgeSent(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(PURGE_SENT_SQL, Timestamp.valueOf(before), limit);
+    }
+
+    private Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now(ZONE));
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= ERROR_MAX_LENGTH) return error;
+        return error.substring(0, ERROR_MAX_LENGTH);
+    }
+
+    public record PendingStats(Long count, Long oldestCreatedAt) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.glucocare.server.feature.notification.domain;
+
+// 알림 보관함에 기록하거나(id, attempts 는 null) 전송하려고 꺼낸 알림
+public record NotificationOutboxMessage(
+        Long id,
+        Long memberId,
+        String idempotencyKey,
+        String title,
+        String body,
+        Integer attempts
+) {
+    public static NotificationOutboxMessage of(Long memberId, String idempotencyKey, String title, String body) {
+        return new NotificationOutboxMessage(null, memberId, idempotencyKey, title, body, null);
+    }
+}
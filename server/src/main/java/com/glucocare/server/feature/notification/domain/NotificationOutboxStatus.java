@@ -0,0 +1,7 @@
+package com.glucocare.server.feature.notification.domain;
+
+public enum NotificationOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
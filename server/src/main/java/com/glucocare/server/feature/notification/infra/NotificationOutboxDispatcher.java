@@ -0,0 +1,238 @@
+package com.glucocare.server.feature.notification.infra;
+
+import com.glucocare.server.client.FcmClient;
+import com.glucocare.server.client.dto.FcmAlertMessage;
+import com.glucocare.server.feature.notification.domain.FcmToken;
+import com.glucocare.server.feature.notification.domain.FcmTokenRepository;
+import com.glucocare.server.feature.notification.domain.NotificationOutboxBulkRepository;
+import com.glucocare.server.feature.notification.domain.NotificationOutboxMessage;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 알림 보관함(notification_outbox)에서 보낼 알림을 꺼내 가상 스레드에서 최대 500건씩 sendEach 로 보냄
+// 실패한 알림은 지수적으로 늘어나는 간격으로 다시 보내고, MAX_ATTEMPTS 번 실패하거나 토큰 또는 메시지가 유효하지 않으면 DEAD 로 남김
+// 꺼낸 뒤 결과를 기록하기 전에 노드가 종료되면 CLAIM_TIMEOUT 뒤에 다시 보내므로, 알림은 최소 한 번 전송됨
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+    private static final int BATCH_SIZE = 500; // sendEach 한 번에 보낼 수 있는 최대 개수
+    private static final int MAX_ATTEMPTS = 8;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration SENT_RETENTION = Duration.ofDays(7);
+    private static final int PURGE_LIMIT = 10_000;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String MESSAGES = "notification.fcm.messages";
+    private static final String BATCH_LATENCY = "notification.fcm.batch.latency";
+    // 토큰 자체가 더 이상 유효하지 않은 경우로, 다시 보내도 실패하므로 토큰을 삭제
+    private static final Set<MessagingErrorCode> STALE_TOKEN_ERRORS = Set.of(MessagingErrorCode.UNREGISTERED, MessagingErrorCode.SENDER_ID_MISMATCH);
+    // 메시지 자체가 잘못된 경우(본문 크기 초과 등)로, 다시 보내도 실패하지만 토큰은 유효할 수 있으므로 알림만 DEAD 로 남김
+    private static final Set<MessagingErrorCode> INVALID_MESSAGE_ERRORS = Set.of(MessagingErrorCode.INVALID_ARGUMENT);
+    private final FcmClient fcmClient;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final NotificationOutboxBulkRepository notificationOutboxBulkRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService poller;
+    private final Integer maxConcurrency;
+    private final Long pollIntervalMillis;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+    private final Timer batchLatency;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+    private final Counter staleToken;
+
+    // 한 번에 꺼내는 알림은 최대 BATCH_SIZE * max-concurrency 건이며, 그만큼의 sendEach 가 동시에 진행됨
+    public NotificationOutboxDispatcher(FcmClient fcmClient, FcmTokenRepository fcmTokenRepository, NotificationOutboxBulkRepository notificationOutboxBulkRepository, MeterRegistry meterRegistry, @Value("${notification.dispatch.max-concurrency:4}") Integer maxConcurrency, @Value("${notification.outbox.poll-interval-millis:1000}") Long pollIntervalMillis) {
+        this.fcmClient = fcmClient;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.notificationOutboxBulkRepository = notificationOutboxBulkRepository;
+        this.maxConcurrency = maxConcurrency;
+        this.pollIntervalMillis = pollIntervalMillis;
+        // 스케줄러 스레드는 오래 걸리는 작업(압축 보관 등)과 공유되므로, 알림이 그 뒤로 밀리지 않도록 전용 스레드에서 꺼냄
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "notification-outbox-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchLatency = Timer.builder(BATCH_LATENCY)
+                                 .publishPercentiles(0.5, 0.95, 0.99)
+                                 .register(meterRegistry);
+        this.sent = counter(meterRegistry, "sent");
+        this.retried = counter(meterRegistry, "retried");
+        this.dead = counter(meterRegistry, "dead");
+        this.staleToken = counter(meterRegistry, "stale_token");
+        Gauge.builder("notification.outbox.pending", pendingCount, AtomicLong::get)
+             .register(meterRegistry);
+        Gauge.builder("notification.outbox.oldest.age", oldestPendingAgeMillis, AtomicLong::get)
+             .baseUnit("milliseconds")
+             .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 예외가 밖으로 나가면 이후 실행이 취소되므로 여기서 기록하고 다음 주기에 다시 시도
+    private void poll() {
+        try {
+            dispatch();
+        } catch (RuntimeException exception) {
+            log.error("알림 보관함을 처리하지 못했습니다.", exception);
+        }
+    }
+
+    void dispatch() {
+        var claimToken = UUID.randomUUID()
+                             .toString();
+        var claimed = notificationOutboxBulkRepository.claim(claimToken, BATCH_SIZE * maxConcurrency, System.currentTimeMillis() + CLAIM_TIMEOUT.toMillis());
+        if (claimed.isEmpty()) return;
+
+        // 알림을 기록한 뒤 토큰이 바뀌었을 수 있으므로 보내는 시점의 토큰을 사용
+        var tokenByMemberId = fcmTokenRepository.findAllByMemberIdIn(claimed.stream()
+                                                                             .map(NotificationOutboxMessage::memberId)
+                                                                             .collect(Collectors.toSet()))
+                                                .stream()
+                                                .collect(Collectors.toMap(fcmToken -> fcmToken.getMember()
+                                                                                              .getId(), Function.identity(), (first, second) -> first));
+        var sendable = new ArrayList<NotificationOutboxMessage>();
+        for (var message : claimed) {
+            if (tokenByMemberId.containsKey(message.memberId())) {
+                sendable.add(message);
+            } else {
+                markDead(claimToken, message, "FCM 토큰 없음");
+            }
+        }
+
+        var futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < sendable.size(); i += BATCH_SIZE) {
+            var batch = sendable.subList(i, Math.min(i + BATCH_SIZE, sendable.size()));
+            futures.add(executor.submit((Callable<Void>) () -> {
+                send(claimToken, batch, tokenByMemberId);
+                return null;
+            }));
+        }
+        for (var future : futures) {
+            await(future);
+        }
+    }
+
+    // 대기 중인 알림 개수와 가장 오래 기다린 시간을 갱신하며, 보낸 지 오래된 알림은 정리
+    @Scheduled(fixedDelayString = "${notification.outbox.stats-interval-millis:15000}")
+    public void refreshStats() {
+        var stats = notificationOutboxBulkRepository.findPendingStats();
+        pendingCount.set(stats.count());
+        oldestPendingAgeMillis.set(stats.oldestCreatedAt() == null ? 0 : Math.max(0, System.currentTimeMillis() - stats.oldestCreatedAt()));
+        notificationOutboxBulkRepository.purgeSent(LocalDateTime.now(ZONE)
+                                                                .minus(SENT_RETENTION), PURGE_LIMIT);
+    }
+
+    @PreDestroy
+    public void close() {
+        poller.shutdown();
+        executor.close(); // 진행 중인 전송이 끝날 때까지 기다림
+    }
+
+    private void send(String claimToken, List<NotificationOutboxMessage> batch, Map<Long, FcmToken> tokenByMemberId) {
+        var messages = batch.stream()
+                            .map(message -> FcmAlertMessage.of(message.idempotencyKey(), tokenByMemberId.get(message.memberId())
+                                                                                                        .getFcmToken(), message.title(), message.body()))
+                            .toList();
+        try {
+            var responses = batchLatency.recordCallable(() -> fcmClient.sendAlertMessages(messages))
+                                        .getResponses();
+            var sentIds = new ArrayList<Long>();
+            var staleTokenIds = new ArrayList<Long>();
+            for (int i = 0; i < responses.size(); i++) {
+                var result = responses.get(i);
+                var message = batch.get(i);
+                if (result.isSuccessful()) {
+                    sentIds.add(message.id());
+                    continue;
+                }
+                var errorCode = result.getException() == null ? null : result.getException()
+                                                                              .getMessagingErrorCode();
+                if (errorCode != null && STALE_TOKEN_ERRORS.contains(errorCode)) {
+                    staleTokenIds.add(tokenByMemberId.get(message.memberId())
+                                                     .getId());
+                    staleToken.increment();
+                    markDead(claimToken, message, String.valueOf(errorCode));
+                } else if (errorCode != null && INVALID_MESSAGE_ERRORS.contains(errorCode)) {
+                    markDead(claimToken, message, String.valueOf(errorCode));
+                } else {
+                    retryOrMarkDead(claimToken, message, String.valueOf(errorCode));
+                }
+            }
+            notificationOutboxBulkRepository.markSent(claimToken, sentIds);
+            sent.increment(sentIds.size());
+            if (!staleTokenIds.isEmpty()) fcmTokenRepository.deleteAllByIdInBatch(staleTokenIds);
+        } catch (Exception exception) {
+            log.error("혈당 알림 {}건 전송 실패: {}", batch.size(), exception.getMessage(), exception);
+            batch.forEach(message -> retryOrMarkDead(claimToken, message, exception.getMessage()));
+        }
+    }
+
+    private void retryOrMarkDead(String claimToken, NotificationOutboxMessage message, String error) {
+        if (message.attempts() >= MAX_ATTEMPTS) {
+            markDead(claimToken, message, error);
+            return;
+        }
+        var backoff = Math.min(MAX_BACKOFF.toMillis(), BASE_BACKOFF.toMillis() << (message.attempts() - 1));
+        notificationOutboxBulkRepository.reschedule(claimToken, message.id(), System.currentTimeMillis() + backoff, error);
+        retried.increment();
+    }
+
+    private void markDead(String claimToken, NotificationOutboxMessage message, String error) {
+        log.warn("혈당 알림을 더 이상 보내지 않습니다. outboxId={}, attempts={}, error={}", message.id(), message.attempts(), error);
+        notificationOutboxBulkRepository.markDead(claimToken, message.id(), error);
+        dead.increment();
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread()
+                  .interrupt();
+        } catch (ExecutionException exception) {
+            log.error("혈당 알림 전송 작업 실패", exception.getCause());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(MESSAGES)
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+}
@@ -0,0 +1,169 @@
+package com.glucocare.server.feature.notification.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 알림 스케줄러가 여러 노드에서 같은 대상을 중복 처리하지 않도록, id 를 파티션으로 나누고 파티션마다 Redis 리스를 한 노드에만 줌
+// 살아 있는 노드 목록에서 파티션별로 rendezvous 해시가 가장 큰 노드가 담당하므로, 노드가 늘거나 줄어도 일부 파티션만 옮겨감
+// 리스는 하트비트로 갱신하며, 하트비트가 끊긴 노드의 리스는 LEASE_TIMEOUT 뒤에 만료되어 남은 노드가 가져감
+@Slf4j
+@Component
+public class NotificationPartitionCoordinator {
+    private static final String NODES_KEY = "notification:partition:nodes";
+    private static final String LEASE_KEY_PREFIX = "notification:partition:lease:";
+    private static final String NODE_ID = UUID.randomUUID()
+                                              .toString();
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration LEASE_TIMEOUT = Duration.ofSeconds(15); // 하트비트를 세 번 놓치면 죽은 노드로 봄
+    // 리스를 갱신하기 전에 잰 시각부터 이 시간이 지나면, Redis 의 리스가 만료되기 전에 스스로 담당을 내려놓음(GC 멈춤, Redis 지연 대비)
+    private static final Duration LEASE_SAFETY_MARGIN = Duration.ofSeconds(3);
+    // 담당 파티션(ARGV[3] 에서 '1')의 리스는 비어 있거나 자신의 것일 때 갱신하고, 담당이 아닌 파티션의 리스는 자신의 것이라면 반납
+    // 실제로 리스를 가진 파티션을 ARGV[3] 과 같은 형식('1' 이면 보유)의 문자열로 반환
+    private static final DefaultRedisScript<String> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local owned = {}
+            for i, key in ipairs(KEYS) do
+                local owner = redis.call('GET', key)
+                owned[i] = '0'
+                if string.sub(ARGV[3], i, i) == '1' then
+                    if owner == false or owner == ARGV[1] then
+                        redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+                        owned[i] = '1'
+                    end
+                elseif owner == ARGV[1] then
+                    redis.call('DEL', key)
+                end
+            end
+            return table.concat(owned)
+            """, String.class);
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Integer partitionCount;
+    private final List<String> leaseKeys;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private volatile Set<Integer> ownedPartitions = Set.of();
+    private volatile long ownedUntil = 0L;
+
+    // 파티션 개수는 모든 노드가 같아야 하므로 운영 중에는 바꾸지 않음
+    public NotificationPartitionCoordinator(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry, @Value("${notification.partition.count:64}") Integer partitionCount) {
+        this.redisTemplate = redisTemplate;
+        this.partitionCount = partitionCount;
+        this.leaseKeys = new ArrayList<>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            leaseKeys.add(LEASE_KEY_PREFIX + partition);
+        }
+        // 스케줄러 스레드는 오래 걸리는 작업(압축 보관 등)과 공유되므로, 하트비트가 밀려 리스를 잃지 않도록 전용 스레드를 사용
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "notification-partition-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("notification.partition.owned", this, coordinator -> coordinator.ownedPartitions.size())
+             .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, HEARTBEAT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 종료 시 리스를 바로 반납하여 남은 노드가 만료를 기다리지 않고 가져가도록 함
+    @PreDestroy
+    public void stop() {
+        heartbeatExecutor.shutdownNow();
+        ownedUntil = 0L;
+        ownedPartitions = Set.of();
+        try {
+            redisTemplate.opsForZSet()
+                         .remove(NODES_KEY, NODE_ID);
+            redisTemplate.execute(LEASE_SCRIPT, leaseKeys, NODE_ID, String.valueOf(LEASE_TIMEOUT.toMillis()), "0".repeat(partitionCount));
+        } catch (RuntimeException exception) {
+            log.warn("알림 파티션 리스를 반납하지 못했습니다. 만료 후 다른 노드가 가져갑니다.");
+        }
+    }
+
+    // 이 노드가 id(환자, 회원)가 속한 파티션의 리스를 가지고 있는지 여부
+    // 마지막 갱신 이후 리스가 만료되었을 수 있는 시점부터는 false 이므로, 작업 도중 호출하여 담당이 바뀌었는지 다시 확인할 수 있음
+    public boolean owns(Long id) {
+        return ownedPartitions().contains(partitionOf(id));
+    }
+
+    // 지금 리스를 가진 파티션 번호 목록
+    public Set<Integer> ownedPartitions() {
+        if (System.currentTimeMillis() >= ownedUntil) return Set.of();
+        return ownedPartitions;
+    }
+
+    public Integer getPartitionCount() {
+        return partitionCount;
+    }
+
+    void heartbeat() {
+        try {
+            var now = System.currentTimeMillis();
+            var nodes = redisTemplate.opsForZSet();
+            nodes.add(NODES_KEY, NODE_ID, now);
+            nodes.removeRangeByScore(NODES_KEY, 0, now - LEASE_TIMEOUT.toMillis());
+            var liveNodes = nodes.range(NODES_KEY, 0, -1);
+
+            var assigned = new StringBuilder(partitionCount);
+            for (int partition = 0; partition < partitionCount; partition++) {
+                assigned.append(NODE_ID.equals(assigneeOf(partition, liveNodes)) ? '1' : '0');
+            }
+            var result = redisTemplate.execute(LEASE_SCRIPT, leaseKeys, NODE_ID, String.valueOf(LEASE_TIMEOUT.toMillis()), assigned.toString());
+            var owned = new HashSet<Integer>();
+            for (int partition = 0; result != null && partition < result.length(); partition++) {
+                if (result.charAt(partition) == '1') owned.add(partition);
+            }
+            // 리스는 now 이후에 설정되었으므로 now 기준으로 계산한 만료 시각은 실제 만료보다 항상 앞섬
+            ownedUntil = 0L;
+            ownedPartitions = Set.copyOf(owned);
+            ownedUntil = now + LEASE_TIMEOUT.toMillis() - LEASE_SAFETY_MARGIN.toMillis();
+        } catch (RuntimeException exception) {
+            // 리스를 확인할 수 없으면 다른 노드와 겹칠 수 있으므로 처리하지 않음(저장 시점 알림은 계속 동작)
+            log.warn("알림 파티션 리스를 갱신하지 못했습니다.", exception);
+            ownedUntil = 0L;
+            ownedPartitions = Set.of();
+        }
+    }
+
+    private int partitionOf(Long id) {
+        return Math.floorMod(id, partitionCount);
+    }
+
+    private String assigneeOf(int partition, Set<String> liveNodes) {
+        if (liveNodes == null || liveNodes.isEmpty()) return NODE_ID;
+        String assignee = null;
+        var highest = Long.MIN_VALUE;
+        for (var node : liveNodes) {
+            var score = mix(node.hashCode() * 31L + partition);
+            if (assignee == null || score > highest) {
+                assignee = node;
+                highest = score;
+            }
+        }
+        return assignee;
+    }
+
+    // 노드 id 의 hashCode 만으로는 파티션별 순위가 고르게 섞이지 않으므로 한 번 더 섞음
+    private long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb3f99e8f5a0bL;
+        return value ^ (value >>> 33);
+    }
+}
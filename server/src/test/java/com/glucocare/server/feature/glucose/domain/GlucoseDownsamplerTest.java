@@ -0,0 +1,123 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlucoseDownsamplerTest {
+    private static final long FIVE_MINUTES = 300_000L;
+    private final GlucoseDownsampler glucoseDownsampler = new GlucoseDownsampler();
+
+    @Test
+    void returnsInputWhenSizeIsWithinMaxPoints() {
+        var histories = createHistories(10);
+
+        assertEquals(histories, glucoseDownsampler.downsample(histories, 10));
+        assertEquals(histories, glucoseDownsampler.downsample(histories, 300));
+    }
+
+    @Test
+    void returnsInputWhenMaxPointsIsLessThanThree() {
+        var histories = createHistories(100);
+
+        assertEquals(histories, glucoseDownsampler.downsample(histories, 2));
+        assertEquals(histories, glucoseDownsampler.downsample(histories, 0));
+    }
+
+    @Test
+    void returnsEmptyInputAsIs() {
+        assertTrue(glucoseDownsampler.downsample(List.of(), 300)
+                                     .isEmpty());
+    }
+
+    @Test
+    void keepsFirstAndLastPointsAndReturnsMaxPoints() {
+        var histories = createHistories(1_000);
+
+        var sampled = glucoseDownsampler.downsample(histories, 50);
+
+        assertEquals(50, sampled.size());
+        assertEquals(histories.getFirst(), sampled.getFirst());
+        assertEquals(histories.getLast(), sampled.getLast());
+    }
+
+    @Test
+    void keepsAscendingOrderAndOriginalReadings() {
+        var histories = createHistories(1_000);
+
+        var sampled = glucoseDownsampler.downsample(histories, 3);
+
+        assertEquals(3, sampled.size());
+        for (int i = 1; i < sampled.size(); i++) {
+            assertTrue(sampled.get(i - 1)
+                              .dateTime() < sampled.get(i)
+                                                   .dateTime());
+        }
+        assertTrue(histories.containsAll(sampled));
+    }
+
+    @Test
+    void keepsIsolatedSpike() {
+        var histories = new ArrayList<>(createFlatHistories(500));
+        var spike = ReadGlucoseHistoryResponse.of(250L, histories.get(250)
+                                                                 .dateTime(), 350);
+        histories.set(250, spike);
+
+        var sampled = glucoseDownsampler.downsample(histories, 20);
+
+        assertTrue(sampled.contains(spike));
+    }
+
+    @Test
+    void minMaxKeepsSingleHypoAtNinetyDayResolution() {
+        // 90일치 시간 단위 집계를 구간마다 최솟값(10분), 최댓값(40분) 두 점으로 펼친 것과 같은 형태
+        var hour = 12 * FIVE_MINUTES;
+        var points = new ArrayList<ReadGlucoseHistoryResponse>();
+        for (int i = 0; i < 90 * 24; i++) {
+            var wave = (int) (30 * Math.sin(i / 6.0));
+            points.add(ReadGlucoseHistoryResponse.of(null, i * hour + 2 * FIVE_MINUTES, 100 + wave));
+            points.add(ReadGlucoseHistoryResponse.of(null, i * hour + 8 * FIVE_MINUTES, 160 + wave));
+        }
+        var hypo = ReadGlucoseHistoryResponse.of(null, points.get(2_001)
+                                                             .dateTime() - FIVE_MINUTES, 45);
+        points.add(2_001, hypo);
+
+        var sampled = glucoseDownsampler.downsampleMinMax(points, 300);
+
+        assertTrue(sampled.size() <= 300);
+        assertTrue(sampled.contains(hypo));
+        for (int i = 1; i < sampled.size(); i++) {
+            assertTrue(sampled.get(i - 1)
+                              .dateTime() < sampled.get(i)
+                                                   .dateTime());
+        }
+    }
+
+    @Test
+    void minMaxReturnsInputWhenSizeIsWithinMaxPoints() {
+        var histories = createHistories(10);
+
+        assertEquals(histories, glucoseDownsampler.downsampleMinMax(histories, 10));
+    }
+
+    private List<ReadGlucoseHistoryResponse> createHistories(int size) {
+        var histories = new ArrayList<ReadGlucoseHistoryResponse>(size);
+        for (int i = 0; i < size; i++) {
+            histories.add(ReadGlucoseHistoryResponse.of((long) i, i * FIVE_MINUTES, 120 + (int) (60 * Math.sin(i / 20.0))));
+        }
+        return histories;
+    }
+
+    private List<ReadGlucoseHistoryResponse> createFlatHistories(int size) {
+        var histories = new ArrayList<ReadGlucoseHistoryResponse>(size);
+        for (int i = 0; i < size; i++) {
+            histories.add(ReadGlucoseHistoryResponse.of((long) i, i * FIVE_MINUTES, 110));
+        }
+        return histories;
+    }
+}
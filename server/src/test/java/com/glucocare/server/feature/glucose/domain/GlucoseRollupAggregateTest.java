@@ -0,0 +1,93 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlucoseRollupAggregateTest {
+
+    @Test
+    void addAccumulatesSumsAndExtremes() {
+        var aggregate = aggregateOf(List.of(100, 150, 200, 60));
+
+        assertEquals(4, aggregate.getCount());
+        assertEquals(510L, aggregate.getSum());
+        assertEquals(100L * 100 + 150L * 150 + 200L * 200 + 60L * 60, aggregate.getSquareSum());
+        assertEquals(60, aggregate.getMin());
+        assertEquals(200, aggregate.getMax());
+    }
+
+    @Test
+    void tracksFirstDateTimeOfExtremes() {
+        var aggregate = aggregateOf(List.of(120, 60, 200, 60, 200));
+
+        assertEquals(300_000L, aggregate.getMinDateTime());
+        assertEquals(600_000L, aggregate.getMaxDateTime());
+    }
+
+    @Test
+    void rangeBoundariesAreInRange() {
+        var aggregate = aggregateOf(List.of(69, 70, 180, 181));
+
+        assertEquals(1, aggregate.getHypo());
+        assertEquals(2, aggregate.getInRange());
+        assertEquals(1, aggregate.getHyper());
+        assertEquals(50.0, GlucoseRollupAggregate.timeInRangeOf(aggregate.getCount(), aggregate.getInRange()), 1e-9);
+    }
+
+    @Test
+    void meanAndStandardDeviationMatchDirectComputation() {
+        var sgvs = List.of(85, 110, 143, 162, 201, 98, 77);
+        var aggregate = aggregateOf(sgvs);
+
+        var mean = sgvs.stream()
+                       .mapToInt(Integer::intValue)
+                       .average()
+                       .orElseThrow();
+        var variance = sgvs.stream()
+                           .mapToDouble(sgv -> (sgv - mean) * (sgv - mean))
+                           .sum() / sgvs.size();
+
+        assertEquals(mean, GlucoseRollupAggregate.meanOf(aggregate.getCount(), aggregate.getSum()), 1e-9);
+        assertEquals(Math.sqrt(variance), GlucoseRollupAggregate.standardDeviationOf(aggregate.getCount(), aggregate.getSum(), aggregate.getSquareSum()), 1e-9);
+    }
+
+    @Test
+    void constantReadingsHaveZeroStandardDeviation() {
+        var aggregate = aggregateOf(List.of(123, 123, 123, 123));
+
+        assertEquals(0.0, GlucoseRollupAggregate.standardDeviationOf(aggregate.getCount(), aggregate.getSum(), aggregate.getSquareSum()), 1e-9);
+    }
+
+    @Test
+    void byBucketGroupsReadingsByPeriodBucket() {
+        var hour = 3_600_000L;
+        var aggregates = GlucoseRollupAggregate.byBucket(GlucoseRollupPeriod.HOUR, Map.of(0L, 100, 1_000L, 120, hour, 60));
+
+        assertEquals(2, aggregates.size());
+        assertEquals(2, aggregates.get(0L)
+                                  .getCount());
+        assertEquals(220L, aggregates.get(0L)
+                                     .getSum());
+        assertEquals(1, aggregates.get(hour)
+                                  .getHypo());
+    }
+
+    @Test
+    void emptyAggregateReturnsZero() {
+        assertEquals(0.0, GlucoseRollupAggregate.meanOf(0, 0), 0.0);
+        assertEquals(0.0, GlucoseRollupAggregate.standardDeviationOf(0, 0, 0), 0.0);
+        assertEquals(0.0, GlucoseRollupAggregate.timeInRangeOf(0, 0), 0.0);
+    }
+
+    private GlucoseRollupAggregate aggregateOf(List<Integer> sgvs) {
+        var aggregate = new GlucoseRollupAggregate();
+        for (int i = 0; i < sgvs.size(); i++) {
+            aggregate.add(i * 300_000L, sgvs.get(i));
+        }
+        return aggregate;
+    }
+}
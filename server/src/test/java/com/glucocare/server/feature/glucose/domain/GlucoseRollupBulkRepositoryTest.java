@@ -0,0 +1,199 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 집계 갱신 SQL 을 실제 MySQL 에서 실행하여 확인하며, Docker 가 없다면 건너뜀
+@Testcontainers(disabledWithoutDocker = true)
+class GlucoseRollupBulkRepositoryTest {
+    private static final long PATIENT_ID = 1L;
+    private static final long FIVE_MINUTES = 300_000L;
+    private static final long DAY_START = GlucoseRollupPeriod.DAY.bucketOf(1_760_000_000_000L);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+    private static JdbcTemplate jdbcTemplate;
+    private GlucoseRollupBulkRepository glucoseRollupBulkRepository;
+
+    @BeforeAll
+    static void connect() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+        jdbcTemplate.execute("""
+                             CREATE TABLE glucose_history (
+                                 id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                 patient_id BIGINT NOT NULL,
+                                 date_time BIGINT NOT NULL,
+                                 sgv INT NOT NULL,
+                                 change_sequence BIGINT NOT NULL,
+                                 created_at DATETIME(6),
+                                 last_modified_at DATETIME(6),
+                                 UNIQUE KEY uk_glucose_history_patient_datetime (patient_id, date_time)
+                             )
+                             """);
+        jdbcTemplate.execute("""
+                             CREATE TABLE glucose_archive_block (
+                                 id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                 patient_id BIGINT NOT NULL,
+                                 day_start BIGINT NOT NULL,
+                                 reading_count INT NOT NULL,
+                                 payload BLOB NOT NULL,
+                                 created_at DATETIME(6),
+                                 last_modified_at DATETIME(6),
+                                 UNIQUE KEY uk_glucose_archive_block_patient_day (patient_id, day_start)
+                             )
+                             """);
+        jdbcTemplate.execute("""
+                             CREATE TABLE glucose_rollup (
+                                 id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                 patient_id BIGINT NOT NULL,
+                                 period VARCHAR(16) NOT NULL,
+                                 bucket_start BIGINT NOT NULL,
+                                 reading_count INT NOT NULL,
+                                 sgv_sum BIGINT NOT NULL,
+                                 sgv_square_sum BIGINT NOT NULL,
+                                 min_sgv INT NOT NULL,
+                                 max_sgv INT NOT NULL,
+                                 min_date_time BIGINT NULL,
+                                 max_date_time BIGINT NULL,
+                                 in_range_count INT NOT NULL,
+                                 hypo_count INT NOT NULL,
+                                 hyper_count INT NOT NULL,
+                                 created_at DATETIME(6),
+                                 last_modified_at DATETIME(6),
+                                 UNIQUE KEY uk_glucose_rollup_patient_period_bucket (patient_id, period, bucket_start)
+                             )
+                             """);
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.execute("DELETE FROM glucose_history");
+        jdbcTemplate.execute("DELETE FROM glucose_archive_block");
+        jdbcTemplate.execute("DELETE FROM glucose_rollup");
+        glucoseRollupBulkRepository = new GlucoseRollupBulkRepository(jdbcTemplate);
+    }
+
+    @Test
+    void overwriteOfArchivedReadingReplacesItInRollup() {
+        var first = DAY_START + FIVE_MINUTES;
+        var second = DAY_START + 2 * FIVE_MINUTES;
+        archive(Map.of(first, 100, second, 200));
+        glucoseRollupBulkRepository.recompute(PATIENT_ID, DAY_START, DAY_START);
+
+        var previousSgvs = glucoseRollupBulkRepository.findCurrentSgvs(PATIENT_ID, List.of(first));
+        insertHot(Map.of(first, 60));
+        glucoseRollupBulkRepository.apply(PATIENT_ID, previousSgvs, Map.of(first, 60));
+
+        assertEquals(Map.of(first, 100), previousSgvs);
+        assertRollup(GlucoseRollupPeriod.DAY, DAY_START, 2, 260L, 60, 200);
+    }
+
+    @Test
+    void recomputeOfArchivedDayKeepsArchivedReadings() {
+        var readings = new TreeMap<Long, Integer>();
+        for (int i = 0; i < 10; i++) {
+            readings.put(DAY_START + i * FIVE_MINUTES, 100 + i);
+        }
+        archive(readings);
+        var late = DAY_START + 20 * FIVE_MINUTES;
+        insertHot(Map.of(late, 250));
+
+        glucoseRollupBulkRepository.recompute(PATIENT_ID, late, late);
+
+        assertRollup(GlucoseRollupPeriod.DAY, DAY_START, 11, 1_045L + 250L, 100, 250);
+    }
+
+    @Test
+    void hotReadingWinsOverArchivedReadingAtSameDateTime() {
+        var dateTime = DAY_START + FIVE_MINUTES;
+        archive(Map.of(dateTime, 100));
+        insertHot(Map.of(dateTime, 150));
+
+        glucoseRollupBulkRepository.recompute(PATIENT_ID, dateTime, dateTime);
+
+        assertRollup(GlucoseRollupPeriod.HOUR, GlucoseRollupPeriod.HOUR.bucketOf(dateTime), 1, 150L, 150, 150);
+    }
+
+    @Test
+    void backfillOverFullHistoryMatchesRawReadings() {
+        var random = new Random(7);
+        var archived = new TreeMap<Long, Integer>();
+        var hot = new TreeMap<Long, Integer>();
+        for (int i = 0; i < 288; i++) {
+            archived.put(DAY_START + i * FIVE_MINUTES, 40 + random.nextInt(300));
+        }
+        var nextDay = GlucoseRollupPeriod.DAY.nextBucketOf(DAY_START);
+        for (int i = 0; i < 3 * 288; i++) {
+            hot.put(nextDay + i * FIVE_MINUTES + random.nextInt(60_000), 40 + random.nextInt(300));
+        }
+        archive(archived);
+        insertHot(hot);
+
+        var oldest = glucoseRollupBulkRepository.findOldestDateTime(PATIENT_ID);
+        glucoseRollupBulkRepository.recompute(PATIENT_ID, oldest.orElseThrow(), hot.lastKey());
+
+        var readings = new TreeMap<Long, Integer>(archived);
+        readings.putAll(hot);
+        assertEquals(DAY_START, oldest.get());
+        for (var period : GlucoseRollupPeriod.values()) {
+            var expected = GlucoseRollupAggregate.byBucket(period, readings);
+            var rows = jdbcTemplate.queryForList("SELECT bucket_start FROM glucose_rollup WHERE patient_id = ? AND period = ?", Long.class, PATIENT_ID, period.name());
+            assertEquals(expected.size(), rows.size());
+            expected.forEach((bucketStart, aggregate) -> assertRollup(period, bucketStart, aggregate));
+        }
+        assertEquals(List.of(PATIENT_ID), glucoseRollupBulkRepository.findPatientIdsAfter(0L, 10));
+    }
+
+    private void archive(Map<Long, Integer> readings) {
+        var histories = new ArrayList<ReadGlucoseHistoryResponse>();
+        readings.forEach((dateTime, sgv) -> histories.add(ReadGlucoseHistoryResponse.of(dateTime, dateTime, sgv)));
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO glucose_archive_block (patient_id, day_start, reading_count, payload, created_at, last_modified_at) VALUES (?, ?, ?, ?, ?, ?)", PATIENT_ID, DAY_START, histories.size(), GlucoseSeriesCodec.encode(histories), now, now);
+    }
+
+    private void insertHot(Map<Long, Integer> readings) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        readings.forEach((dateTime, sgv) -> jdbcTemplate.update("INSERT INTO glucose_history (patient_id, date_time, sgv, change_sequence, created_at, last_modified_at) VALUES (?, ?, ?, 0, ?, ?) ON DUPLICATE KEY UPDATE sgv = VALUES(sgv)", PATIENT_ID, dateTime, sgv, now, now));
+    }
+
+    // 원본 측정값으로 직접 구한 합계와 통계 API 가 읽는 집계 행이 모두 같은지 확인
+    private void assertRollup(GlucoseRollupPeriod period, long bucketStart, GlucoseRollupAggregate expected) {
+        var row = jdbcTemplate.queryForMap("SELECT * FROM glucose_rollup WHERE patient_id = ? AND period = ? AND bucket_start = ?", PATIENT_ID, period.name(), bucketStart);
+        assertEquals(expected.getCount(), ((Number) row.get("reading_count")).intValue());
+        assertEquals(expected.getSum(), ((Number) row.get("sgv_sum")).longValue());
+        assertEquals(expected.getSquareSum(), ((Number) row.get("sgv_square_sum")).longValue());
+        assertEquals(expected.getMin(), ((Number) row.get("min_sgv")).intValue());
+        assertEquals(expected.getMax(), ((Number) row.get("max_sgv")).intValue());
+        assertEquals(expected.getMinDateTime(), ((Number) row.get("min_date_time")).longValue());
+        assertEquals(expected.getMaxDateTime(), ((Number) row.get("max_date_time")).longValue());
+        assertEquals(expected.getInRange(), ((Number) row.get("in_range_count")).intValue());
+        assertEquals(expected.getHypo(), ((Number) row.get("hypo_count")).intValue());
+        assertEquals(expected.getHyper(), ((Number) row.get("hyper_count")).intValue());
+    }
+
+    private void assertRollup(GlucoseRollupPeriod period, long bucketStart, int count, long sum, int min, int max) {
+        var row = jdbcTemplate.queryForMap("SELECT reading_count, sgv_sum, min_sgv, max_sgv FROM glucose_rollup WHERE patient_id = ? AND period = ? AND bucket_start = ?", PATIENT_ID, period.name(), bucketStart);
+        assertEquals(count, ((Number) row.get("reading_count")).intValue());
+        assertEquals(sum, ((Number) row.get("sgv_sum")).longValue());
+        assertEquals(min, ((Number) row.get("min_sgv")).intValue());
+        assertEquals(max, ((Number) row.get("max_sgv")).intValue());
+    }
+}
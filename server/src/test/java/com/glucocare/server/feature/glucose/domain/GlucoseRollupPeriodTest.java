@@ -0,0 +1,49 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlucoseRollupPeriodTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void hourBucketStartsAtTheHour() {
+        var dateTime = epochMilli(LocalDateTime.of(2025, 3, 1, 14, 37, 12));
+
+        var bucket = GlucoseRollupPeriod.HOUR.bucketOf(dateTime);
+
+        assertEquals(epochMilli(LocalDateTime.of(2025, 3, 1, 14, 0)), bucket);
+        assertEquals(epochMilli(LocalDateTime.of(2025, 3, 1, 15, 0)), GlucoseRollupPeriod.HOUR.nextBucketOf(bucket));
+    }
+
+    @Test
+    void dayBucketStartsAtSeoulMidnight() {
+        // UTC 기준으로는 전날인 시각도 한국 시간 날짜로 묶여야 함
+        var dateTime = epochMilli(LocalDateTime.of(2025, 3, 1, 5, 0));
+
+        var bucket = GlucoseRollupPeriod.DAY.bucketOf(dateTime);
+
+        assertEquals(epochMilli(LocalDateTime.of(2025, 3, 1, 0, 0)), bucket);
+        assertEquals(epochMilli(LocalDateTime.of(2025, 3, 2, 0, 0)), GlucoseRollupPeriod.DAY.nextBucketOf(bucket));
+    }
+
+    @Test
+    void bucketStartIsItsOwnBucket() {
+        for (var period : GlucoseRollupPeriod.values()) {
+            var bucket = period.bucketOf(epochMilli(LocalDateTime.of(2025, 12, 31, 23, 59, 59)));
+
+            assertEquals(bucket, period.bucketOf(bucket));
+            assertEquals(bucket, period.bucketOf(period.nextBucketOf(bucket) - 1));
+        }
+    }
+
+    private long epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE)
+                       .toInstant()
+                       .toEpochMilli();
+    }
+}
@@ -0,0 +1,125 @@
+package com.glucocare.server.feature.glucose.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.feature.glucose.dto.ReadGlucoseHistoryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlucoseSeriesCodecTest {
+    private static final long FIVE_MINUTES = 300_000L;
+
+    @Test
+    void roundTripKeepsReadingsInDateTimeOrder() {
+        var histories = new ArrayList<ReadGlucoseHistoryResponse>();
+        for (int i = 0; i < 288; i++) {
+            histories.add(ReadGlucoseHistoryResponse.of(1_000L + i, 1_760_000_000_000L + i * FIVE_MINUTES, 100 + i % 40));
+        }
+
+        assertEquals(histories, GlucoseSeriesCodec.decode(GlucoseSeriesCodec.encode(histories)));
+    }
+
+    @Test
+    void encodeSortsUnorderedInput() {
+        var first = ReadGlucoseHistoryResponse.of(1L, 1_000L, 110);
+        var second = ReadGlucoseHistoryResponse.of(2L, 2_000L, 120);
+        var third = ReadGlucoseHistoryResponse.of(3L, 3_000L, 130);
+
+        assertEquals(List.of(first, second, third), GlucoseSeriesCodec.decode(GlucoseSeriesCodec.encode(List.of(third, first, second))));
+    }
+
+    @Test
+    void emptyInputRoundTripsToEmptyList() {
+        var encoded = GlucoseSeriesCodec.encode(List.of());
+
+        assertEquals(2, encoded.length);
+        assertTrue(GlucoseSeriesCodec.decode(encoded)
+                                     .isEmpty());
+    }
+
+    @Test
+    void singleReadingRoundTrips() {
+        var histories = List.of(ReadGlucoseHistoryResponse.of(7L, 1_760_000_000_000L, 95));
+
+        assertEquals(histories, GlucoseSeriesCodec.decode(GlucoseSeriesCodec.encode(histories)));
+    }
+
+    @Test
+    void gapsAndIrregularIntervalsRoundTrip() {
+        var histories = List.of(ReadGlucoseHistoryResponse.of(10L, 1_760_000_000_000L, 120),
+                                ReadGlucoseHistoryResponse.of(11L, 1_760_000_300_000L, 118),
+                                ReadGlucoseHistoryResponse.of(12L, 1_760_000_301_500L, 119), // 센서 재전송
+                                ReadGlucoseHistoryResponse.of(40L, 1_760_021_600_000L, 250), // 6시간 공백
+                                ReadGlucoseHistoryResponse.of(41L, 1_760_021_899_000L, 40),
+                                ReadGlucoseHistoryResponse.of(5L, 1_760_300_000_000L, 600)); // id 가 감소하는 경우
+
+        assertEquals(histories, GlucoseSeriesCodec.decode(GlucoseSeriesCodec.encode(histories)));
+    }
+
+    @Test
+    void overflowingDeltasRoundTrip() {
+        var histories = List.of(ReadGlucoseHistoryResponse.of(Long.MAX_VALUE, Long.MIN_VALUE, Integer.MAX_VALUE),
+                                ReadGlucoseHistoryResponse.of(Long.MIN_VALUE, 0L, Integer.MIN_VALUE),
+                                ReadGlucoseHistoryResponse.of(0L, Long.MAX_VALUE, 0));
+
+        assertEquals(histories, GlucoseSeriesCodec.decode(GlucoseSeriesCodec.encode(histories)));
+    }
+
+    @Test
+    void encodedDayIsFarSmallerThanJsonCacheValue() throws Exception {
+        var histories = new ArrayList<ReadGlucoseHistoryResponse>();
+        for (int i = 0; i < 288; i++) {
+            histories.add(ReadGlucoseHistoryResponse.of(1_000_000L + i, 1_760_000_000_000L + i * FIVE_MINUTES, 100 + i % 40));
+        }
+
+        // 이전 캐시 값은 목록 전체를 Jackson 으로 직렬화한 JSON 문자열이었음
+        var json = new ObjectMapper().writeValueAsBytes(histories);
+        var binary = GlucoseSeriesCodec.encode(histories);
+
+        assertTrue(binary.length * 10 < json.length, "binary=" + binary.length + ", json=" + json.length);
+    }
+
+    @Test
+    void decodeRejectsNegativeCount() {
+        var bytes = new byte[]{2, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1}; // count = -1
+
+        assertThrows(ApplicationException.class, () -> GlucoseSeriesCodec.decode(bytes));
+    }
+
+    @Test
+    void decodeRejectsCountLargerThanPayload() {
+        var bytes = new byte[]{2, -1, -1, -1, -1, 7, 0, 0, 0}; // count = Integer.MAX_VALUE
+
+        assertThrows(ApplicationException.class, () -> GlucoseSeriesCodec.decode(bytes));
+    }
+
+    @Test
+    void decodeRejectsOverlongVarint() {
+        var bytes = new byte[16];
+        Arrays.fill(bytes, (byte) -1);
+        bytes[0] = 2;
+
+        assertThrows(ApplicationException.class, () -> GlucoseSeriesCodec.decode(bytes));
+    }
+
+    @Test
+    void decodeRejectsUnknownVersion() {
+        assertThrows(ApplicationException.class, () -> GlucoseSeriesCodec.decode(new byte[]{99, 0}));
+    }
+
+    @Test
+    void decodeRejectsTruncatedBytes() {
+        var encoded = GlucoseSeriesCodec.encode(List.of(ReadGlucoseHistoryResponse.of(1L, 1_000L, 110),
+                                                        ReadGlucoseHistoryResponse.of(2L, 301_000L, 120)));
+        var truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThrows(ApplicationException.class, () -> GlucoseSeriesCodec.decode(truncated));
+    }
+}
@@ -0,0 +1,160 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.glucocare.server.exception.ApplicationException;
+import com.glucocare.server.exception.ErrorMessage;
+import com.glucocare.server.feature.glucose.domain.GlucoseBackfillFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GlucoseBackfillReaderTest {
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final String CLARITY_HEADER = "Index,Timestamp (YYYY-MM-DDThh:mm:ss),Event Type,Event Subtype,Glucose Value (mg/dL)";
+    private final GlucoseBackfillReader reader = new GlucoseBackfillReader();
+
+    @Test
+    void readsDexcomClarityReadingsInGivenZone() {
+        var csv = CLARITY_HEADER + "\n" + "1,2025-01-01T09:00:00,EGV,,120\n" + "2,2025-01-01 09:05:00,EGV,,125\n";
+
+        var readings = readAll(csv, GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL);
+
+        assertEquals(Map.of(epochMillis("2025-01-01T00:00:00"), 120, epochMillis("2025-01-01T00:05:00"), 125), readings);
+    }
+
+    @Test
+    void sameCsvShiftsWithZone() {
+        var csv = CLARITY_HEADER + "\n" + "1,2025-01-01T09:00:00,EGV,,120\n";
+
+        var seoul = readAll(csv, GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL);
+        var utc = readAll(csv, GlucoseBackfillFormat.DEXCOM_CLARITY, ZoneOffset.UTC);
+
+        assertEquals(9 * 3_600_000L, utc.keySet()
+                                        .iterator()
+                                        .next() - seoul.keySet()
+                                                       .iterator()
+                                                       .next());
+    }
+
+    @Test
+    void skipsNonReadingEventsAndNonNumericGlucose() {
+        var csv = CLARITY_HEADER + "\n" + "1,,FirstName,,\n" + "2,2025-01-01T09:00:00,Calibration,,130\n" + "3,2025-01-01T09:05:00,EGV,,Low\n" + "4,2025-01-01T09:10:00,EGV,,High\n" + "5,2025-01-01T09:15:00,EGV,,140\n";
+
+        var readings = readAll(csv, GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL);
+
+        assertEquals(Map.of(epochMillis("2025-01-01T00:15:00"), 140), readings);
+    }
+
+    @Test
+    void findsHeaderAfterPreambleAndByteOrderMark() {
+        var csv = "\uFEFFGlucose Data,Generated on,01-02-2025 10:00 AM UTC,Generated by,user\n" + "Device,Serial Number,Device Timestamp,Record Type,Historic Glucose mg/dL,Scan Glucose mg/dL\n" + "FreeStyle LibreLink,ABC,01-01-2025 09:00 AM,0,110,\n" + "FreeStyle LibreLink,ABC,01-01-2025 09:07 AM,1,,115\n" + "FreeStyle LibreLink,ABC,01-01-2025 09:10 AM,6,,\n";
+
+        var readings = readAll(csv, GlucoseBackfillFormat.LIBRE_VIEW, SEOUL);
+
+        assertEquals(Map.of(epochMillis("2025-01-01T00:00:00"), 110, epochMillis("2025-01-01T00:07:00"), 115), readings);
+    }
+
+    @Test
+    void handlesQuotedValuesWithCommas() {
+        var csv = CLARITY_HEADER + ",Device Info\n" + "1,\"2025-01-01T09:00:00\",EGV,,\"120\",\"G7, \"\"Mobile\"\"\"\n";
+
+        var readings = readAll(csv, GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL);
+
+        assertEquals(Map.of(epochMillis("2025-01-01T00:00:00"), 120), readings);
+    }
+
+    @Test
+    void skipsTruncatedLines() {
+        var csv = CLARITY_HEADER + "\n" + "1,2025-01-01T09:00:00\n" + "2,2025-01-01T09:05:00,EGV,,125\n";
+
+        var readings = readAll(csv, GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL);
+
+        assertEquals(Map.of(epochMillis("2025-01-01T00:05:00"), 125), readings);
+    }
+
+    @Test
+    void rejectsMalformedTimestamp() {
+        var csv = CLARITY_HEADER + "\n" + "1,01/01/2025 9:00,EGV,,120\n";
+
+        assertBadRequest(() -> readAll(csv, GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL));
+    }
+
+    @Test
+    void rejectsMissingHeader() {
+        assertBadRequest(() -> readAll("1,2025-01-01T09:00:00,EGV,,120\n", GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL));
+    }
+
+    @Test
+    void rejectsUnsupportedUnit() {
+        var csv = "Index,Timestamp (YYYY-MM-DDThh:mm:ss),Event Type,Glucose Value (mmol/L)\n" + "1,2025-01-01T09:00:00,EGV,6.7\n";
+
+        assertBadRequest(() -> readAll(csv, GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL));
+    }
+
+    @Test
+    void rejectsInvalidGzip() {
+        var input = new ByteArrayInputStream(CLARITY_HEADER.getBytes(StandardCharsets.UTF_8));
+
+        assertBadRequest(() -> reader.read(input, "gzip", GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL, chunk -> {
+        }));
+    }
+
+    @Test
+    void readsGzipBodyInChunks() throws IOException {
+        var csv = new StringBuilder(CLARITY_HEADER).append('\n');
+        var start = LocalDateTime.parse("2025-01-01T00:00:00");
+        for (int i = 0; i < 5_001; i++) {
+            csv.append(i)
+               .append(',')
+               .append(start.plusMinutes(5L * i))
+               .append(",EGV,,")
+               .append(100 + i % 50)
+               .append('\n');
+        }
+        var chunkSizes = new ArrayList<Integer>();
+
+        var received = reader.read(gzip(csv.toString()), "gzip", GlucoseBackfillFormat.DEXCOM_CLARITY, SEOUL, chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(5_001, received);
+        assertEquals(List.of(5_000, 1), chunkSizes);
+    }
+
+    private Map<Long, Integer> readAll(String csv, GlucoseBackfillFormat format, ZoneId zone) {
+        var readings = new LinkedHashMap<Long, Integer>();
+        reader.read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), null, format, zone, readings::putAll);
+        return readings;
+    }
+
+    private long epochMillis(String utcDateTime) {
+        return LocalDateTime.parse(utcDateTime)
+                            .toInstant(ZoneOffset.UTC)
+                            .toEpochMilli();
+    }
+
+    private InputStream gzip(String value) throws IOException {
+        var output = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(output)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(output.toByteArray());
+    }
+
+    private void assertBadRequest(Runnable action) {
+        var exception = assertThrows(ApplicationException.class, action::run);
+        assertEquals(ErrorMessage.BAD_REQUEST, exception.getErrorMessage());
+    }
+}
@@ -0,0 +1,144 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 토큰 버킷 Lua 스크립트를 실제 Redis 에서 실행하여 확인하며, Docker 가 없다면 건너뜀
+@Testcontainers(disabledWithoutDocker = true)
+class GlucoseIngestRateLimiterTest {
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Object>) (RedisConnection connection) -> {
+            connection.serverCommands()
+                      .flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    void allowsUpToPatientCapacityThenReturnsRetryAfter() {
+        var limiter = limiter(3.0, 1.0, 1_000.0, 1_000.0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW));
+        }
+
+        assertEquals(Optional.of(1L), limiter.tryAcquire(1L, true, NOW));
+    }
+
+    @Test
+    void refillsByElapsedTime() {
+        var limiter = limiter(1.0, 0.5, 1_000.0, 1_000.0);
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW));
+
+        assertTrue(limiter.tryAcquire(1L, true, NOW + 1_999)
+                          .isPresent());
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW + 2_000));
+        assertTrue(limiter.tryAcquire(1L, true, NOW + 2_000)
+                          .isPresent());
+    }
+
+    @Test
+    void rejectedRequestDoesNotConsumeTokens() {
+        var limiter = limiter(1.0, 1.0, 1_000.0, 1_000.0);
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(1L, true, NOW + 100)
+                              .isPresent());
+        }
+
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW + 1_000));
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        var limiter = limiter(2.0, 1.0, 1_000.0, 1_000.0);
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW));
+
+        var later = NOW + 3_600_000L;
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, later));
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, later));
+        assertTrue(limiter.tryAcquire(1L, true, later)
+                          .isPresent());
+    }
+
+    @Test
+    void retryAfterRoundsRemainingWaitUpToSeconds() {
+        var limiter = limiter(1.0, 0.2, 1_000.0, 1_000.0);
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW));
+
+        assertEquals(Optional.of(5L), limiter.tryAcquire(1L, true, NOW));
+        assertEquals(Optional.of(3L), limiter.tryAcquire(1L, true, NOW + 2_500));
+        assertEquals(Optional.of(1L), limiter.tryAcquire(1L, true, NOW + 4_999));
+    }
+
+    @Test
+    void patientsHaveSeparateBuckets() {
+        var limiter = limiter(1.0, 0.1, 1_000.0, 1_000.0);
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW));
+        assertTrue(limiter.tryAcquire(1L, true, NOW)
+                          .isPresent());
+
+        assertEquals(Optional.empty(), limiter.tryAcquire(2L, true, NOW));
+    }
+
+    @Test
+    void globalLimitDoesNotConsumePatientToken() {
+        var limiter = limiter(1.0, 0.1, 1.0, 1.0);
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW));
+
+        assertEquals(Optional.of(1L), limiter.tryAcquire(2L, true, NOW));
+        assertEquals(Optional.empty(), limiter.tryAcquire(2L, true, NOW + 1_000));
+    }
+
+    @Test
+    void unauthenticatedRequestsDoNotConsumePatientToken() {
+        var limiter = limiter(1.0, 0.1, 1_000.0, 1_000.0);
+        assertEquals(Optional.empty(), limiter.tryAcquireUnauthenticated("203.0.113.7", true, NOW));
+        assertTrue(limiter.tryAcquireUnauthenticated("203.0.113.7", true, NOW)
+                          .isPresent());
+
+        assertEquals(Optional.empty(), limiter.tryAcquire(1L, true, NOW));
+        assertEquals(Optional.empty(), limiter.tryAcquireUnauthenticated("203.0.113.8", true, NOW));
+    }
+
+    private GlucoseIngestRateLimiter limiter(double patientCapacity, double patientRefillPerSecond, double globalCapacity, double globalRefillPerSecond) {
+        var glucoseIngestQueue = new GlucoseIngestQueue(redisTemplate, false, 100_000L);
+        return new GlucoseIngestRateLimiter(redisTemplate, glucoseIngestQueue, null, new SimpleMeterRegistry(), true, patientCapacity, patientRefillPerSecond, globalCapacity, globalRefillPerSecond, 5);
+    }
+}
@@ -0,0 +1,163 @@
+package com.glucocare.server.feature.glucose.infra;
+
+import com.glucocare.server.feature.glucose.domain.GlucoseWindow;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlucoseRingBufferTest {
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void keepsOnlyWindowAcrossWraparound() {
+        var buffer = new GlucoseRingBuffer(300 * MINUTE, 0);
+        for (int i = 0; i < 2_000; i++) {
+            buffer.put(i * MINUTE, 100 + i % 50);
+        }
+
+        var window = buffer.snapshot(Long.MIN_VALUE);
+
+        assertEquals(301, window.size());
+        for (int i = 0; i < window.size(); i++) {
+            var minute = 1_699 + i;
+            assertEquals(minute * MINUTE, window.dateTimeAt(i));
+            assertEquals(100 + minute % 50, window.sgvAt(i));
+        }
+    }
+
+    @Test
+    void insertsLateReadingInPlaceAfterWraparound() {
+        var buffer = new GlucoseRingBuffer(300 * MINUTE, 0);
+        for (int i = 0; i < 1_000; i += 2) {
+            buffer.put(i * MINUTE, 100);
+        }
+
+        buffer.put(997 * MINUTE, 150);
+        buffer.put(751 * MINUTE, 160);
+
+        var window = buffer.snapshot(Long.MIN_VALUE);
+        assertSorted(window);
+        assertEquals(150, window.sgvAt(indexOf(window, 997 * MINUTE)));
+        assertEquals(160, window.sgvAt(indexOf(window, 751 * MINUTE)));
+    }
+
+    @Test
+    void overwritesSameDateTime() {
+        var buffer = new GlucoseRingBuffer(300 * MINUTE, 0);
+        buffer.put(MINUTE, 100);
+        buffer.put(2 * MINUTE, 110);
+
+        buffer.put(MINUTE, 180);
+
+        var window = buffer.snapshot(Long.MIN_VALUE);
+        assertEquals(2, window.size());
+        assertEquals(180, window.sgvAt(0));
+    }
+
+    @Test
+    void dropsOldestWhenFullAtMaxCapacity() {
+        var buffer = new GlucoseRingBuffer(Long.MAX_VALUE / 2, 0);
+        for (int i = 0; i < 5_000; i++) {
+            buffer.put(i * MINUTE, 100);
+        }
+
+        buffer.put(0, 200); // 가장 오래된 혈당보다 오래된 값은 버려짐
+
+        var window = buffer.snapshot(Long.MIN_VALUE);
+        assertEquals(4_096, window.size());
+        assertEquals((5_000 - 4_096) * MINUTE, window.dateTimeAt(0));
+        assertEquals(4_999 * MINUTE, window.dateTimeAt(window.size() - 1));
+    }
+
+    @Test
+    void ignoresReadingsOlderThanWindow() {
+        var buffer = new GlucoseRingBuffer(10 * MINUTE, 0);
+        buffer.put(100 * MINUTE, 100);
+
+        buffer.put(80 * MINUTE, 120);
+
+        assertEquals(1, buffer.snapshot(Long.MIN_VALUE)
+                              .size());
+    }
+
+    @Test
+    void snapshotIsNotAffectedByLaterAppends() {
+        var buffer = new GlucoseRingBuffer(300 * MINUTE, 0);
+        buffer.put(MINUTE, 100);
+        var window = buffer.snapshot(Long.MIN_VALUE);
+
+        buffer.put(2 * MINUTE, 110);
+
+        assertEquals(1, window.size());
+    }
+
+    @Test
+    void rejectsSgvOutsideShortRange() {
+        var buffer = new GlucoseRingBuffer(300 * MINUTE, 0);
+
+        assertTrue(GlucoseRingBuffer.isStorable(600));
+        assertFalse(GlucoseRingBuffer.isStorable(-1));
+        assertFalse(GlucoseRingBuffer.isStorable(Short.MAX_VALUE + 1));
+        assertThrows(IllegalArgumentException.class, () -> buffer.put(MINUTE, 40_000));
+        assertTrue(buffer.snapshot(Long.MIN_VALUE)
+                         .isEmpty());
+    }
+
+    @Test
+    void concurrentAppendsKeepEveryReading() throws InterruptedException {
+        var threads = 8;
+        var perThread = 500;
+        var buffer = new GlucoseRingBuffer(Long.MAX_VALUE / 2, 0);
+        var start = new CountDownLatch(1);
+        var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            var offset = t;
+            var worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread()
+                          .interrupt();
+                    return;
+                }
+                // 스레드마다 서로 엇갈린 측정 시각을 넣어 중간 삽입과 배열 확장이 함께 일어나도록 함
+                for (int i = perThread - 1; i >= 0; i--) {
+                    var minute = i * threads + offset;
+                    buffer.put(minute * MINUTE, 40 + minute % 300);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (var worker : workers) {
+            worker.join();
+        }
+
+        var window = buffer.snapshot(Long.MIN_VALUE);
+        assertEquals(threads * perThread, window.size());
+        for (int i = 0; i < window.size(); i++) {
+            assertEquals(i * MINUTE, window.dateTimeAt(i));
+            assertEquals(40 + i % 300, window.sgvAt(i));
+        }
+    }
+
+    private void assertSorted(GlucoseWindow window) {
+        for (int i = 1; i < window.size(); i++) {
+            assertTrue(window.dateTimeAt(i - 1) < window.dateTimeAt(i));
+        }
+    }
+
+    private int indexOf(GlucoseWindow window, long dateTime) {
+        for (int i = 0; i < window.size(); i++) {
+            if (window.dateTimeAt(i) == dateTime) return i;
+        }
+        throw new AssertionError("missing " + dateTime);
+    }
+}